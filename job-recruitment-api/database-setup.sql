@@ -22,12 +22,16 @@ CREATE TABLE IF NOT EXISTS users (
     password VARCHAR(255) NOT NULL,
     role ENUM('ADMIN', 'CANDIDATE', 'ENTERPRISE') NOT NULL,
     photo_url VARCHAR(500),
+    photo_small_url VARCHAR(500),
+    photo_medium_url VARCHAR(500),
     is_active BOOLEAN DEFAULT TRUE,
     deactivation_reason TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     INDEX idx_users_email (email),
-    INDEX idx_users_role (role)
+    INDEX idx_users_role (role),
+    INDEX idx_users_created (created_at, id),
+    INDEX idx_users_role_created (role, created_at, id)
 ) ENGINE=InnoDB;
 
 -- Candidate Profiles table
@@ -51,6 +55,8 @@ CREATE TABLE IF NOT EXISTS enterprise_profiles (
     company_name VARCHAR(255) NOT NULL,
     description TEXT,
     logo_url VARCHAR(500),
+    logo_small_url VARCHAR(500),
+    logo_medium_url VARCHAR(500),
     industry VARCHAR(100),
     location VARCHAR(255),
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
@@ -67,12 +73,16 @@ CREATE TABLE IF NOT EXISTS job_offers (
     location VARCHAR(255) NOT NULL,
     status ENUM('ACTIVE', 'CLOSED') DEFAULT 'ACTIVE',
     requirements JSON DEFAULT '[]',
+    application_count INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (enterprise_id) REFERENCES enterprise_profiles(id) ON DELETE CASCADE,
     INDEX idx_jobs_status (status),
     INDEX idx_jobs_type (type),
-    INDEX idx_jobs_location (location(100))
+    INDEX idx_jobs_location (location(100)),
+    INDEX idx_jobs_status_created (status, created_at, id),
+    INDEX idx_jobs_created (created_at, id),
+    INDEX idx_jobs_title (title, id)
 ) ENGINE=InnoDB;
 
 -- Applications table
@@ -88,7 +98,12 @@ CREATE TABLE IF NOT EXISTS applications (
     FOREIGN KEY (candidate_id) REFERENCES candidate_profiles(id) ON DELETE CASCADE,
     FOREIGN KEY (job_offer_id) REFERENCES job_offers(id) ON DELETE CASCADE,
     UNIQUE KEY uk_candidate_job (candidate_id, job_offer_id),
-    INDEX idx_applications_status (status)
+    INDEX idx_applications_status (status),
+    INDEX idx_applications_candidate_status (candidate_id, status),
+    INDEX idx_applications_job_status (job_offer_id, status),
+    INDEX idx_applications_status_created (status, created_at, id),
+    INDEX idx_applications_created (created_at, id),
+    INDEX idx_applications_score (matching_score, id)
 ) ENGINE=InnoDB;
 
 -- Interviews table
@@ -100,7 +115,9 @@ CREATE TABLE IF NOT EXISTS interviews (
     status ENUM('SCHEDULED', 'COMPLETED', 'CANCELLED') DEFAULT 'SCHEDULED',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE,
+    INDEX idx_interviews_status_date (status, date, id),
+    INDEX idx_interviews_date (date, id)
 ) ENGINE=InnoDB;
 
 -- Notifications table
@@ -110,10 +127,93 @@ CREATE TABLE IF NOT EXISTS notifications (
     content TEXT NOT NULL,
     is_read BOOLEAN DEFAULT FALSE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE,
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_notifications_user_read (user_id, is_read)
+    INDEX idx_notifications_user_read (user_id, is_read),
+    INDEX idx_notifications_user_seq (user_id, seq)
 ) ENGINE=InnoDB;
 
+-- Refresh tokens table (only the SHA-256 of each token is stored)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    token_hash CHAR(64) NOT NULL UNIQUE,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at DATETIME NOT NULL,
+    revoked BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    INDEX idx_refresh_tokens_user (user_id),
+    INDEX idx_refresh_tokens_family (family_id)
+) ENGINE=InnoDB;
+
+-- Uploaded file contents, stored once per SHA-256
+CREATE TABLE IF NOT EXISTS file_blobs (
+    hash CHAR(64) PRIMARY KEY,
+    content_type VARCHAR(100) NOT NULL,
+    size BIGINT NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_file_blobs_refs (ref_count, updated_at)
+) ENGINE=InnoDB;
+
+-- Current photo / CV / logo of each user
+CREATE TABLE IF NOT EXISTS file_references (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    category VARCHAR(20) NOT NULL,
+    blob_hash CHAR(64) NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_file_references_user_category (user_id, category),
+    INDEX idx_file_references_blob (blob_hash)
+) ENGINE=InnoDB;
+
+-- Platform-wide totals for the admin dashboard (seeded by the application at startup)
+CREATE TABLE IF NOT EXISTS platform_counters (
+    name VARCHAR(30) PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB;
+
+-- =====================================================
+-- Migrations for existing databases
+-- =====================================================
+
+-- Denormalized application counter on job_offers (one-off backfill)
+-- Run both on existing databases: when hbm2ddl adds the column instead, every job
+-- starts at 0 and the UPDATE below is still needed once to count existing applications.
+-- ALTER TABLE job_offers ADD COLUMN application_count INT NOT NULL DEFAULT 0;
+-- UPDATE job_offers j
+-- SET j.application_count = (SELECT COUNT(*) FROM applications a WHERE a.job_offer_id = j.id);
+
+-- Public job listing (keyset pages of active jobs ordered by created_at, id)
+-- CREATE INDEX idx_jobs_status_created ON job_offers (status, created_at, id);
+
+-- Dashboard aggregates (GROUP BY status per candidate / per job)
+-- CREATE INDEX idx_applications_candidate_status ON applications (candidate_id, status);
+-- CREATE INDEX idx_applications_job_status ON applications (job_offer_id, status);
+
+-- Admin list sorts (keyset pages ordered by column, id)
+-- CREATE INDEX idx_users_created ON users (created_at, id);
+-- CREATE INDEX idx_users_role_created ON users (role, created_at, id);
+-- CREATE INDEX idx_jobs_created ON job_offers (created_at, id);
+-- CREATE INDEX idx_jobs_title ON job_offers (title, id);
+-- CREATE INDEX idx_applications_status_created ON applications (status, created_at, id);
+-- CREATE INDEX idx_applications_created ON applications (created_at, id);
+-- CREATE INDEX idx_applications_score ON applications (matching_score, id);
+-- CREATE INDEX idx_interviews_status_date ON interviews (status, date, id);
+-- CREATE INDEX idx_interviews_date ON interviews (date, id);
+
+-- Notification replay order (existing rows are numbered when the column is added)
+-- ALTER TABLE notifications ADD COLUMN seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE;
+-- CREATE INDEX idx_notifications_user_seq ON notifications (user_id, seq);
+
+-- Resized photo and logo variants (filled in when a photo or logo is next changed)
+-- ALTER TABLE users ADD COLUMN photo_small_url VARCHAR(500), ADD COLUMN photo_medium_url VARCHAR(500);
+-- ALTER TABLE enterprise_profiles ADD COLUMN logo_small_url VARCHAR(500), ADD COLUMN logo_medium_url VARCHAR(500);
+
 -- =====================================================
 -- Create an admin user (password: admin123)
 -- Password hash generated with BCrypt
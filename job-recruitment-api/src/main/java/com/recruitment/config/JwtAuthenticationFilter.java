@@ -1,27 +1,20 @@
 package com.recruitment.config;
 
-import com.recruitment.security.RolesAllowed;
 import com.recruitment.security.Secured;
 import com.recruitment.security.UserPrincipal;
 import com.recruitment.service.JwtTokenService;
-import io.jsonwebtoken.Claims;
+import com.recruitment.service.TokenRevocationService;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.container.ResourceInfo;
-import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.ext.Provider;
 
-import java.lang.reflect.Method;
 import java.security.Principal;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * JWT Authentication filter for secured endpoints
@@ -32,18 +25,28 @@ import java.util.Set;
 public class JwtAuthenticationFilter implements ContainerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+    private static final String NOTIFICATION_STREAM_PATH = "api/notifications/stream";
 
     @Inject
     private JwtTokenService jwtTokenService;
 
-    @Context
-    private ResourceInfo resourceInfo;
+    @Inject
+    private TokenRevocationService tokenRevocationService;
 
     @Override
     public void filter(ContainerRequestContext requestContext) {
         // Get Authorization header
         String authHeader = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
 
+        // EventSource cannot set headers: the notification stream may pass the token as a query parameter
+        if (authHeader == null && isNotificationStream(requestContext)) {
+            String queryToken = requestContext.getUriInfo().getQueryParameters().getFirst(ACCESS_TOKEN_PARAM);
+            if (queryToken != null && !queryToken.isEmpty()) {
+                authHeader = BEARER_PREFIX + queryToken;
+            }
+        }
+
         if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
             requestContext.abortWith(
                     Response.status(Response.Status.UNAUTHORIZED)
@@ -55,25 +58,21 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
         String token = authHeader.substring(BEARER_PREFIX.length());
 
         try {
-            // Validate token
-            Claims claims = jwtTokenService.validateToken(token);
-
-            String userId = claims.getSubject();
-            String email = claims.get("email", String.class);
-            String role = claims.get("role", String.class);
+            // Validate token (cached after the first verification)
+            UserPrincipal userPrincipal = jwtTokenService.authenticate(token);
+            String role = userPrincipal.getRole();
 
-            // Check roles if @RolesAllowed is present
-            Set<String> allowedRoles = getAllowedRoles();
-            if (!allowedRoles.isEmpty() && !allowedRoles.contains(role)) {
+            // Reject tokens of users deactivated or deleted since they were issued
+            if (tokenRevocationService.isRevoked(userPrincipal)) {
                 requestContext.abortWith(
-                        Response.status(Response.Status.FORBIDDEN)
-                                .entity("{\"error\": \"Access denied\"}")
+                        Response.status(Response.Status.UNAUTHORIZED)
+                                .entity("{\"error\": \"Token has been revoked\"}")
                                 .build());
                 return;
             }
 
-            // Set security context
-            UserPrincipal userPrincipal = new UserPrincipal(userId, email, role);
+            // Set security context (roles are checked afterwards by RoleAuthorizationFilter)
+            SecurityContext original = requestContext.getSecurityContext();
             requestContext.setSecurityContext(new SecurityContext() {
                 @Override
                 public Principal getUserPrincipal() {
@@ -87,7 +86,7 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
 
                 @Override
                 public boolean isSecure() {
-                    return requestContext.getSecurityContext().isSecure();
+                    return original.isSecure();
                 }
 
                 @Override
@@ -104,23 +103,11 @@ public class JwtAuthenticationFilter implements ContainerRequestFilter {
         }
     }
 
-    private Set<String> getAllowedRoles() {
-        Set<String> roles = new HashSet<>();
-
-        // Check method-level annotation first
-        Method method = resourceInfo.getResourceMethod();
-        if (method != null && method.isAnnotationPresent(RolesAllowed.class)) {
-            roles.addAll(Arrays.asList(method.getAnnotation(RolesAllowed.class).value()));
+    private boolean isNotificationStream(ContainerRequestContext requestContext) {
+        String path = requestContext.getUriInfo().getPath();
+        if (path.startsWith("/")) {
+            path = path.substring(1);
         }
-
-        // Check class-level annotation if method doesn't have one
-        if (roles.isEmpty()) {
-            Class<?> resourceClass = resourceInfo.getResourceClass();
-            if (resourceClass != null && resourceClass.isAnnotationPresent(RolesAllowed.class)) {
-                roles.addAll(Arrays.asList(resourceClass.getAnnotation(RolesAllowed.class).value()));
-            }
-        }
-
-        return roles;
+        return NOTIFICATION_STREAM_PATH.equals(path);
     }
 }
@@ -0,0 +1,68 @@
+package com.recruitment.config;
+
+import com.recruitment.security.RateLimited;
+import com.recruitment.service.RateLimiter;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binds a {@link RateLimitFilter} to every resource method annotated with @RateLimited,
+ * reading the limit from configuration once at deployment.
+ */
+@Provider
+public class RateLimitFeature implements DynamicFeature {
+
+    private static final int DEFAULT_PER_MINUTE = 60;
+    private static final int DEFAULT_BURST = 20;
+
+    @Inject
+    private RateLimiter rateLimiter;
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        RateLimited rateLimited = findRateLimited(resourceInfo);
+        if (rateLimited == null) {
+            return;
+        }
+
+        Config config = ConfigProvider.getConfig();
+        String name = rateLimited.value();
+        int perMinute = config.getOptionalValue("ratelimit." + name + ".per-minute", Integer.class)
+                .orElse(DEFAULT_PER_MINUTE);
+        int burst = config.getOptionalValue("ratelimit." + name + ".burst", Integer.class)
+                .orElse(DEFAULT_BURST);
+
+        // The forwarding header is only believed on requests coming from a trusted proxy
+        String clientIpHeader = config.getOptionalValue("ratelimit.client-ip.header", String.class)
+                .orElse(null);
+        Set<String> trustedProxies = Set.copyOf(
+                config.getOptionalValues("ratelimit.trusted-proxies", String.class).orElse(List.of()));
+
+        // After authentication so that signed-in callers are limited per user
+        context.register(new RateLimitFilter(rateLimiter, name, burst, perMinute / 60.0, clientIpHeader,
+                        trustedProxies),
+                Priorities.AUTHORIZATION + 1);
+    }
+
+    private RateLimited findRateLimited(ResourceInfo resourceInfo) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method != null && method.isAnnotationPresent(RateLimited.class)) {
+            return method.getAnnotation(RateLimited.class);
+        }
+        Class<?> resourceClass = resourceInfo.getResourceClass();
+        if (resourceClass != null && resourceClass.isAnnotationPresent(RateLimited.class)) {
+            return resourceClass.getAnnotation(RateLimited.class);
+        }
+        return null;
+    }
+}
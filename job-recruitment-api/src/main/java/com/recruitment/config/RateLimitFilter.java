@@ -0,0 +1,85 @@
+package com.recruitment.config;
+
+import com.recruitment.security.UserPrincipal;
+import com.recruitment.service.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * Token-bucket limit bound to one resource method by {@link RateLimitFeature}.
+ * Signed-in callers are limited per user only, so that users sharing an office NAT do
+ * not throttle each other; anonymous ones are limited per client IP.
+ * Behind a reverse proxy the client IP is read from the configured forwarding header,
+ * as the rightmost address not added by one of the trusted proxies.
+ */
+public class RateLimitFilter implements ContainerRequestFilter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final RateLimiter rateLimiter;
+    private final String name;
+    private final int burst;
+    private final double perSecond;
+    private final String clientIpHeader;
+    private final Set<String> trustedProxies;
+
+    @Context
+    private HttpServletRequest servletRequest;
+
+    public RateLimitFilter(RateLimiter rateLimiter, String name, int burst, double perSecond,
+                           String clientIpHeader, Set<String> trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.name = name;
+        this.burst = burst;
+        this.perSecond = perSecond;
+        this.clientIpHeader = clientIpHeader;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Principal principal = requestContext.getSecurityContext().getUserPrincipal();
+        String client = principal instanceof UserPrincipal
+                ? "user:" + ((UserPrincipal) principal).getUserId()
+                : "ip:" + clientIp(requestContext);
+
+        long retryAfter = rateLimiter.tryAcquire(name, client, burst, perSecond);
+        if (retryAfter > 0) {
+            requestContext.abortWith(
+                    Response.status(TOO_MANY_REQUESTS)
+                            .header(HttpHeaders.RETRY_AFTER, retryAfter)
+                            .type(MediaType.APPLICATION_JSON)
+                            .entity("{\"error\": \"Too many requests\"}")
+                            .build());
+        }
+    }
+
+    private String clientIp(ContainerRequestContext requestContext) {
+        String remoteAddr = servletRequest.getRemoteAddr();
+        if (clientIpHeader == null || !trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwarded = requestContext.getHeaderString(clientIpHeader);
+        if (forwarded == null || forwarded.isBlank()) {
+            return remoteAddr;
+        }
+
+        // Each proxy appends the address it received from; earlier entries are client-supplied
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return remoteAddr;
+    }
+}
@@ -0,0 +1,48 @@
+package com.recruitment.config;
+
+import com.recruitment.enums.Role;
+import com.recruitment.security.RolesAllowed;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.ext.Provider;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Resolves the roles allowed on each resource method once, at deployment, and binds
+ * a role check with that fixed set to the method.
+ * Method-level @RolesAllowed takes precedence over the class-level one.
+ */
+@Provider
+public class RoleAuthorizationFeature implements DynamicFeature {
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        RolesAllowed rolesAllowed = findRolesAllowed(resourceInfo);
+        if (rolesAllowed == null) {
+            return;
+        }
+
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (String role : rolesAllowed.value()) {
+            roles.add(Role.valueOf(role));
+        }
+        context.register(new RoleAuthorizationFilter(roles), Priorities.AUTHORIZATION);
+    }
+
+    private RolesAllowed findRolesAllowed(ResourceInfo resourceInfo) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method != null && method.isAnnotationPresent(RolesAllowed.class)) {
+            return method.getAnnotation(RolesAllowed.class);
+        }
+        Class<?> resourceClass = resourceInfo.getResourceClass();
+        if (resourceClass != null && resourceClass.isAnnotationPresent(RolesAllowed.class)) {
+            return resourceClass.getAnnotation(RolesAllowed.class);
+        }
+        return null;
+    }
+}
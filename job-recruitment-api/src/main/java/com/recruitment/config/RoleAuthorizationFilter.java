@@ -0,0 +1,40 @@
+package com.recruitment.config;
+
+import com.recruitment.enums.Role;
+import com.recruitment.security.UserPrincipal;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Role check bound to one resource method by {@link RoleAuthorizationFeature}.
+ * Runs after JWT authentication and only compares the caller's role to a fixed set.
+ */
+public class RoleAuthorizationFilter implements ContainerRequestFilter {
+
+    private final Set<Role> allowedRoles;
+
+    public RoleAuthorizationFilter(Set<Role> allowedRoles) {
+        this.allowedRoles = Collections.unmodifiableSet(EnumSet.copyOf(allowedRoles));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Principal principal = requestContext.getSecurityContext().getUserPrincipal();
+        if (principal instanceof UserPrincipal) {
+            Role role = ((UserPrincipal) principal).getRoleType();
+            if (role != null && allowedRoles.contains(role)) {
+                return;
+            }
+        }
+        requestContext.abortWith(
+                Response.status(Response.Status.FORBIDDEN)
+                        .entity("{\"error\": \"Access denied\"}")
+                        .build());
+    }
+}
@@ -0,0 +1,192 @@
+package com.recruitment.dto.request;
+
+import com.recruitment.exception.ApiException;
+import jakarta.ws.rs.QueryParam;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Query parameters of the admin list endpoints (filters, sort, cursor and page size).
+ * Dates are ISO days; "to" is inclusive.
+ */
+public class AdminListQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    @QueryParam("role")
+    private String role;
+
+    @QueryParam("status")
+    private String status;
+
+    @QueryParam("from")
+    private String from;
+
+    @QueryParam("to")
+    private String to;
+
+    @QueryParam("email")
+    private String email;
+
+    @QueryParam("sort")
+    private String sort;
+
+    @QueryParam("order")
+    private String order;
+
+    @QueryParam("cursor")
+    private String cursor;
+
+    @QueryParam("limit")
+    private Integer limit;
+
+    // Constructors
+    public AdminListQuery() {
+    }
+
+    /**
+     * Start of the "from" day, or null when not filtered
+     */
+    public LocalDateTime getFromTime() {
+        LocalDate day = parseDay(from);
+        return day != null ? day.atStartOfDay() : null;
+    }
+
+    /**
+     * Start of the day after "to" (exclusive bound), or null when not filtered
+     */
+    public LocalDateTime getToTime() {
+        LocalDate day = parseDay(to);
+        return day != null ? day.plusDays(1).atStartOfDay() : null;
+    }
+
+    public String getEmailPrefix() {
+        return email != null && !email.isBlank() ? email.trim().toLowerCase() : null;
+    }
+
+    public boolean isAscending() {
+        if (order == null || order.isEmpty() || order.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        if (order.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        throw new ApiException("Invalid order: " + order, 400);
+    }
+
+    public int getPageSize() {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * True when no filter narrows the list, so that a maintained total can be used
+     */
+    public boolean isUnfiltered() {
+        return isBlank(role) && isBlank(status) && isBlank(from) && isBlank(to) && getEmailPrefix() == null;
+    }
+
+    /**
+     * Parse an enum filter, or return null when not filtered
+     */
+    public static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (isBlank(value) || value.equalsIgnoreCase("all")) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Invalid " + name + ": " + value, 400);
+        }
+    }
+
+    private static LocalDate parseDay(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ApiException("Invalid date: " + value, 400);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // Getters and Setters
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
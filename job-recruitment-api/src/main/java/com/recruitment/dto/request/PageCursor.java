@@ -0,0 +1,55 @@
+package com.recruitment.dto.request;
+
+import com.recruitment.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor.
+ * Holds the sort key values of the last row of a page, encoded as URL-safe Base64.
+ * Only the last value may contain free text.
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    public static PageCursor of(String... values) {
+        return new PageCursor(values.clone());
+    }
+
+    /**
+     * Decode a cursor received from a client, or return null if none was sent
+     */
+    public static PageCursor decode(String encoded, int expectedParts) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            // The last value may itself contain the separator
+            String[] parts = raw.split("\\" + SEPARATOR, expectedParts);
+            if (parts.length != expectedParts) {
+                throw new ApiException("Invalid cursor", 400);
+            }
+            return new PageCursor(parts);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Invalid cursor", 400);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String get(int index) {
+        return values[index];
+    }
+}
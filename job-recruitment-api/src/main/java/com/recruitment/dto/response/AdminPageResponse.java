@@ -0,0 +1,60 @@
+package com.recruitment.dto.response;
+
+import java.util.List;
+
+/**
+ * Page of an admin list with the cursor of the next page (null on the last page).
+ * The total is only computed for the first page; when totalCapped is true there are
+ * more matching rows than the total says.
+ */
+public class AdminPageResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private Long total;
+    private boolean totalCapped;
+
+    // Constructors
+    public AdminPageResponse() {
+    }
+
+    public AdminPageResponse(List<T> items, String nextCursor, Long total, boolean totalCapped) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.total = total;
+        this.totalCapped = totalCapped;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public boolean isTotalCapped() {
+        return totalCapped;
+    }
+
+    public void setTotalCapped(boolean totalCapped) {
+        this.totalCapped = totalCapped;
+    }
+}
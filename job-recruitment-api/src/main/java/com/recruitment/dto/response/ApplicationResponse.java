@@ -2,6 +2,7 @@ package com.recruitment.dto.response;
 
 import com.recruitment.entity.Application;
 import com.recruitment.enums.ApplicationStatus;
+import com.recruitment.enums.InterviewStatus;
 import java.time.LocalDateTime;
 
 /**
@@ -40,6 +41,43 @@ public class ApplicationResponse {
     public ApplicationResponse() {
     }
 
+    /**
+     * Constructor expression used by the list queries of ApplicationRepository,
+     * which select these columns only instead of loading the entity graph
+     */
+    public ApplicationResponse(String id, ApplicationStatus status, double matchingScore, boolean isAnonymous,
+            LocalDateTime createdAt, LocalDateTime updatedAt,
+            String candidateId, String candidateEmail, String candidatePhotoUrl,
+            String candidateFirstName, String candidateLastName, String candidateBio,
+            String candidatePhone, String candidateCvUrl, String candidateSkills,
+            String jobId, String jobTitle, String jobLocation, String companyName,
+            String interviewId, LocalDateTime interviewDate, String interviewMeetingLink,
+            InterviewStatus interviewStatus, LocalDateTime interviewCreatedAt) {
+        this.id = id;
+        this.status = status;
+        this.matchingScore = matchingScore;
+        this.isAnonymous = isAnonymous;
+        this.createdAt = createdAt != null ? createdAt.toString() : null;
+        this.updatedAt = updatedAt != null ? updatedAt.toString() : null;
+        this.candidateId = candidateId;
+        this.candidateEmail = candidateEmail;
+        this.candidatePhotoUrl = candidatePhotoUrl;
+        this.candidateFirstName = candidateFirstName;
+        this.candidateLastName = candidateLastName;
+        this.candidateBio = candidateBio;
+        this.candidatePhone = candidatePhone;
+        this.candidateCvUrl = candidateCvUrl;
+        this.candidateSkills = candidateSkills;
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.jobLocation = jobLocation;
+        this.companyName = companyName;
+        if (interviewId != null) {
+            this.interview = InterviewResponse.of(interviewId, interviewDate, interviewMeetingLink,
+                    interviewStatus, interviewCreatedAt, jobTitle, companyName);
+        }
+    }
+
     public static ApplicationResponse fromEntity(Application app, boolean hideCandidate) {
         ApplicationResponse response = new ApplicationResponse();
         response.id = app.getId();
@@ -54,14 +92,7 @@ public class ApplicationResponse {
             response.candidateId = app.getCandidate().getId();
 
             if (hideCandidate && app.isAnonymous()) {
-                response.candidateEmail = "anonymous@candidate.hidden";
-                response.candidateFirstName = null;
-                response.candidateLastName = null;
-                response.candidateBio = null;
-                response.candidatePhone = null;
-                response.candidateCvUrl = null;
-                response.candidateSkills = null;
-                response.candidatePhotoUrl = null;
+                response.maskCandidate();
             } else {
                 if (app.getCandidate().getUser() != null) {
                     response.candidateEmail = app.getCandidate().getUser().getEmail();
@@ -99,6 +130,27 @@ public class ApplicationResponse {
         return response;
     }
 
+    /**
+     * Hide the candidate's identity if they applied anonymously (enterprise views)
+     */
+    public ApplicationResponse hideAnonymousCandidate() {
+        if (isAnonymous) {
+            maskCandidate();
+        }
+        return this;
+    }
+
+    private void maskCandidate() {
+        candidateEmail = "anonymous@candidate.hidden";
+        candidateFirstName = null;
+        candidateLastName = null;
+        candidateBio = null;
+        candidatePhone = null;
+        candidateCvUrl = null;
+        candidateSkills = null;
+        candidatePhotoUrl = null;
+    }
+
     // Getters and Setters
     public String getId() {
         return id;
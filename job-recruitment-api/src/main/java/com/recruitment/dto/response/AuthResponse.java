@@ -9,6 +9,8 @@ public class AuthResponse {
 
     private boolean success;
     private String token;
+    private String refreshToken;
+    private Long expiresIn; // access token lifetime in seconds
     private String userId;
     private String email;
     private Role role;
@@ -52,6 +54,22 @@ public class AuthResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
     public String getUserId() {
         return userId;
     }
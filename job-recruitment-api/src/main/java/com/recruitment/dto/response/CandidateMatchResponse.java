@@ -0,0 +1,104 @@
+package com.recruitment.dto.response;
+
+import com.recruitment.entity.CandidateProfile;
+
+/**
+ * Candidate ranked against a job offer
+ */
+public class CandidateMatchResponse {
+
+    private String candidateId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String photoUrl;
+    private String skills;
+    private String cvUrl;
+    private double matchingScore;
+
+    // Constructors
+    public CandidateMatchResponse() {
+    }
+
+    public static CandidateMatchResponse fromEntity(CandidateProfile candidate, double matchingScore) {
+        CandidateMatchResponse response = new CandidateMatchResponse();
+        response.candidateId = candidate.getId();
+        response.firstName = candidate.getFirstName();
+        response.lastName = candidate.getLastName();
+        response.skills = candidate.getSkills();
+        response.cvUrl = candidate.getCvUrl();
+        response.matchingScore = matchingScore;
+
+        if (candidate.getUser() != null) {
+            response.email = candidate.getUser().getEmail();
+            response.photoUrl = candidate.getUser().getPhotoUrl();
+        }
+
+        return response;
+    }
+
+    // Getters and Setters
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhotoUrl() {
+        return photoUrl;
+    }
+
+    public void setPhotoUrl(String photoUrl) {
+        this.photoUrl = photoUrl;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public String getCvUrl() {
+        return cvUrl;
+    }
+
+    public void setCvUrl(String cvUrl) {
+        this.cvUrl = cvUrl;
+    }
+
+    public double getMatchingScore() {
+        return matchingScore;
+    }
+
+    public void setMatchingScore(double matchingScore) {
+        this.matchingScore = matchingScore;
+    }
+}
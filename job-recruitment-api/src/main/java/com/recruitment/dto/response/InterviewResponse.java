@@ -46,6 +46,19 @@ public class InterviewResponse {
         return response;
     }
 
+    public static InterviewResponse of(String id, LocalDateTime date, String meetingLink, InterviewStatus status,
+            LocalDateTime createdAt, String jobTitle, String companyName) {
+        InterviewResponse response = new InterviewResponse();
+        response.id = id;
+        response.date = date != null ? date.toString() : null;
+        response.meetingLink = meetingLink;
+        response.status = status;
+        response.createdAt = createdAt != null ? createdAt.toString() : null;
+        response.jobTitle = jobTitle;
+        response.companyName = companyName;
+        return response;
+    }
+
     public static InterviewResponse fromEntityWithApplication(Interview interview, Application app) {
         InterviewResponse response = fromEntity(interview);
 
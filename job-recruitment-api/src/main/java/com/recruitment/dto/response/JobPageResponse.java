@@ -0,0 +1,38 @@
+package com.recruitment.dto.response;
+
+import java.util.List;
+
+/**
+ * Page of jobs with the cursor of the next page (null on the last page)
+ */
+public class JobPageResponse {
+
+    private List<JobResponse> jobs;
+    private String nextCursor;
+
+    // Constructors
+    public JobPageResponse() {
+    }
+
+    public JobPageResponse(List<JobResponse> jobs, String nextCursor) {
+        this.jobs = jobs;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobResponse> jobs) {
+        this.jobs = jobs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -26,6 +26,7 @@ public class JobResponse {
     private String enterpriseId;
     private String companyName;
     private String companyLogoUrl;
+    private String companyLogoSmallUrl;
     private String companyDescription;
     private String companyIndustry;
     private String companyLocation;
@@ -46,17 +47,16 @@ public class JobResponse {
         response.requirements = job.getRequirements();
         response.createdAt = job.getCreatedAt() != null ? job.getCreatedAt().toString() : null;
         response.updatedAt = job.getUpdatedAt() != null ? job.getUpdatedAt().toString() : null;
-        // Avoid lazy loading exception - use 0 if applications not loaded
-        try {
-            response.applicationCount = job.getApplicationCount();
-        } catch (Exception e) {
-            response.applicationCount = 0;
-        }
+        response.applicationCount = job.getApplicationCount();
 
         if (job.getEnterprise() != null) {
             response.enterpriseId = job.getEnterprise().getId();
             response.companyName = job.getEnterprise().getCompanyName();
             response.companyLogoUrl = job.getEnterprise().getLogoUrl();
+            // Falls back to the original until the variant has been generated
+            response.companyLogoSmallUrl = job.getEnterprise().getLogoSmallUrl() != null
+                    ? job.getEnterprise().getLogoSmallUrl()
+                    : job.getEnterprise().getLogoUrl();
             response.companyDescription = job.getEnterprise().getDescription();
             response.companyIndustry = job.getEnterprise().getIndustry();
             response.companyLocation = job.getEnterprise().getLocation();
@@ -186,6 +186,14 @@ public class JobResponse {
         this.companyLogoUrl = companyLogoUrl;
     }
 
+    public String getCompanyLogoSmallUrl() {
+        return companyLogoSmallUrl;
+    }
+
+    public void setCompanyLogoSmallUrl(String companyLogoSmallUrl) {
+        this.companyLogoSmallUrl = companyLogoSmallUrl;
+    }
+
     public String getCompanyDescription() {
         return companyDescription;
     }
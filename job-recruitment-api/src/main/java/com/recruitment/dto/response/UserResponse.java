@@ -17,6 +17,8 @@ public class UserResponse {
     private boolean active;
 
     private String photoUrl;
+    private String photoSmallUrl;
+    private String photoMediumUrl;
     private String createdAt;
 
     // Candidate info
@@ -28,6 +30,8 @@ public class UserResponse {
     private String enterpriseProfileId;
     private String companyName;
     private String logoUrl;
+    private String logoSmallUrl;
+    private String logoMediumUrl;
 
     // Constructors
     public UserResponse() {
@@ -40,6 +44,8 @@ public class UserResponse {
         response.role = user.getRole();
         response.active = user.isActive();
         response.photoUrl = user.getPhotoUrl();
+        response.photoSmallUrl = user.getPhotoSmallUrl();
+        response.photoMediumUrl = user.getPhotoMediumUrl();
         response.createdAt = user.getCreatedAt() != null ? user.getCreatedAt().toString() : null;
 
         if (user.getCandidateProfile() != null) {
@@ -52,6 +58,8 @@ public class UserResponse {
             response.enterpriseProfileId = user.getEnterpriseProfile().getId();
             response.companyName = user.getEnterpriseProfile().getCompanyName();
             response.logoUrl = user.getEnterpriseProfile().getLogoUrl();
+            response.logoSmallUrl = user.getEnterpriseProfile().getLogoSmallUrl();
+            response.logoMediumUrl = user.getEnterpriseProfile().getLogoMediumUrl();
         }
 
         return response;
@@ -98,6 +106,22 @@ public class UserResponse {
         this.photoUrl = photoUrl;
     }
 
+    public String getPhotoSmallUrl() {
+        return photoSmallUrl;
+    }
+
+    public void setPhotoSmallUrl(String photoSmallUrl) {
+        this.photoSmallUrl = photoSmallUrl;
+    }
+
+    public String getPhotoMediumUrl() {
+        return photoMediumUrl;
+    }
+
+    public void setPhotoMediumUrl(String photoMediumUrl) {
+        this.photoMediumUrl = photoMediumUrl;
+    }
+
     public String getCreatedAt() {
         return createdAt;
     }
@@ -153,4 +177,20 @@ public class UserResponse {
     public void setLogoUrl(String logoUrl) {
         this.logoUrl = logoUrl;
     }
+
+    public String getLogoSmallUrl() {
+        return logoSmallUrl;
+    }
+
+    public void setLogoSmallUrl(String logoSmallUrl) {
+        this.logoSmallUrl = logoSmallUrl;
+    }
+
+    public String getLogoMediumUrl() {
+        return logoMediumUrl;
+    }
+
+    public void setLogoMediumUrl(String logoMediumUrl) {
+        this.logoMediumUrl = logoMediumUrl;
+    }
 }
@@ -8,7 +8,13 @@ import java.time.LocalDateTime;
  * Application entity - represents job applications by candidates
  */
 @Entity
-@Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = { "candidate_id", "job_offer_id" }))
+@Table(name = "applications", uniqueConstraints = @UniqueConstraint(columnNames = { "candidate_id", "job_offer_id" }), indexes = {
+        @Index(name = "idx_applications_candidate_status", columnList = "candidate_id, status"),
+        @Index(name = "idx_applications_job_status", columnList = "job_offer_id, status"),
+        @Index(name = "idx_applications_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_applications_created", columnList = "created_at, id"),
+        @Index(name = "idx_applications_score", columnList = "matching_score, id")
+})
 public class Application {
 
     @Id
@@ -1,6 +1,8 @@
 package com.recruitment.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +10,8 @@ import java.util.List;
  * Candidate profile entity - additional info for candidates
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruitment.candidateProfile")
 @Table(name = "candidate_profiles")
 public class CandidateProfile {
 
@@ -1,6 +1,8 @@
 package com.recruitment.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +10,8 @@ import java.util.List;
  * Enterprise profile entity - additional info for companies
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruitment.enterpriseProfile")
 @Table(name = "enterprise_profiles")
 public class EnterpriseProfile {
 
@@ -28,6 +32,13 @@ public class EnterpriseProfile {
     @Column(name = "logo_url", columnDefinition = "TEXT")
     private String logoUrl;
 
+    // Re-encoded variants of the logo, filled in asynchronously
+    @Column(name = "logo_small_url", length = 500)
+    private String logoSmallUrl;
+
+    @Column(name = "logo_medium_url", length = 500)
+    private String logoMediumUrl;
+
     private String industry;
 
     private String location;
@@ -84,6 +95,22 @@ public class EnterpriseProfile {
         this.logoUrl = logoUrl;
     }
 
+    public String getLogoSmallUrl() {
+        return logoSmallUrl;
+    }
+
+    public void setLogoSmallUrl(String logoSmallUrl) {
+        this.logoSmallUrl = logoSmallUrl;
+    }
+
+    public String getLogoMediumUrl() {
+        return logoMediumUrl;
+    }
+
+    public void setLogoMediumUrl(String logoMediumUrl) {
+        this.logoMediumUrl = logoMediumUrl;
+    }
+
     public String getIndustry() {
         return industry;
     }
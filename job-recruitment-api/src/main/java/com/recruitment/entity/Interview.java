@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
  * Interview entity - represents scheduled interviews for applications
  */
 @Entity
-@Table(name = "interviews")
+@Table(name = "interviews", indexes = {
+        @Index(name = "idx_interviews_status_date", columnList = "status, date, id"),
+        @Index(name = "idx_interviews_date", columnList = "date, id")
+})
 public class Interview {
 
     @Id
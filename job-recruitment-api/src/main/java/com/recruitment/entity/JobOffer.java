@@ -3,6 +3,8 @@ package com.recruitment.entity;
 import com.recruitment.enums.JobStatus;
 import com.recruitment.enums.JobType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -11,7 +13,13 @@ import java.util.List;
  * Job offer entity - represents job postings by enterprises
  */
 @Entity
-@Table(name = "job_offers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruitment.jobOffer")
+@Table(name = "job_offers", indexes = {
+        @Index(name = "idx_jobs_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_jobs_created", columnList = "created_at, id"),
+        @Index(name = "idx_jobs_title", columnList = "title, id")
+})
 public class JobOffer {
 
     @Id
@@ -44,6 +52,12 @@ public class JobOffer {
     @Column(columnDefinition = "TEXT")
     private String requirements; // JSON array stored as text
 
+    // Same row, read-only and not cached: the counters change without invalidating the job
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private JobOfferStats stats;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -166,7 +180,15 @@ public class JobOffer {
         this.applications = applications;
     }
 
+    public JobOfferStats getStats() {
+        return stats;
+    }
+
+    public void setStats(JobOfferStats stats) {
+        this.stats = stats;
+    }
+
     public int getApplicationCount() {
-        return applications != null ? applications.size() : 0;
+        return stats.getApplicationCount();
     }
 }
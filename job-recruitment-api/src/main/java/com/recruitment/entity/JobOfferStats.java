@@ -0,0 +1,39 @@
+package com.recruitment.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * JobOfferStats entity - the counters of a job offer, read from its own row.
+ * Not cached, unlike JobOffer, so that the counters can be updated atomically in SQL
+ * without invalidating the cached job offers.
+ */
+@Entity
+@Immutable
+@BatchSize(size = 50)
+@Table(name = "job_offers")
+public class JobOfferStats {
+
+    @Id
+    private String id;
+
+    // Maintained by atomic UPDATEs in JobOfferRepository
+    @Column(name = "application_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int applicationCount;
+
+    // Constructors
+    public JobOfferStats() {
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public int getApplicationCount() {
+        return applicationCount;
+    }
+}
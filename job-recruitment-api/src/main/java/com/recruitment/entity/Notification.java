@@ -27,6 +27,11 @@ public class Notification {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    // Assigned by the database in insert order, which is also the order notifications are pushed
+    @Column(name = "seq", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL AUTO_INCREMENT UNIQUE")
+    private Long seq;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,65 @@
+package com.recruitment.entity;
+
+import com.recruitment.enums.CounterType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * PlatformCounter entity - a maintained platform-wide total (users, jobs...),
+ * so that the admin dashboard does not count whole tables
+ */
+@Entity
+@Table(name = "platform_counters")
+public class PlatformCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private CounterType name;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public PlatformCounter() {
+    }
+
+    public PlatformCounter(CounterType name, long total) {
+        this.name = name;
+        this.total = total;
+    }
+
+    // Getters and Setters
+    public CounterType getName() {
+        return name;
+    }
+
+    public void setName(CounterType name) {
+        this.name = name;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -2,6 +2,8 @@ package com.recruitment.entity;
 
 import com.recruitment.enums.Role;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,7 +12,12 @@ import java.util.List;
  * User entity - represents all users in the system
  */
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruitment.user")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created", columnList = "created_at, id"),
+        @Index(name = "idx_users_role_created", columnList = "role, created_at, id")
+})
 public class User {
 
     @Id
@@ -30,6 +37,13 @@ public class User {
     @Column(name = "photo_url", columnDefinition = "TEXT")
     private String photoUrl;
 
+    // Re-encoded variants of the photo, filled in asynchronously
+    @Column(name = "photo_small_url", length = 500)
+    private String photoSmallUrl;
+
+    @Column(name = "photo_medium_url", length = 500)
+    private String photoMediumUrl;
+
     @Column(name = "is_active")
     private boolean isActive = true;
 
@@ -113,6 +127,22 @@ public class User {
         this.photoUrl = photoUrl;
     }
 
+    public String getPhotoSmallUrl() {
+        return photoSmallUrl;
+    }
+
+    public void setPhotoSmallUrl(String photoSmallUrl) {
+        this.photoSmallUrl = photoSmallUrl;
+    }
+
+    public String getPhotoMediumUrl() {
+        return photoMediumUrl;
+    }
+
+    public void setPhotoMediumUrl(String photoMediumUrl) {
+        this.photoMediumUrl = photoMediumUrl;
+    }
+
     public boolean isActive() {
         return isActive;
     }
@@ -0,0 +1,12 @@
+package com.recruitment.enums;
+
+/**
+ * Platform-wide totals kept in the platform_counters table
+ */
+public enum CounterType {
+    USERS,
+    CANDIDATES,
+    ENTERPRISES,
+    JOB_OFFERS,
+    APPLICATIONS
+}
@@ -0,0 +1,24 @@
+package com.recruitment.event;
+
+/**
+ * Fired when an application is created, deleted or changes status, so that the
+ * dashboards of the candidate and the enterprise concerned are refreshed
+ */
+public class ApplicationChangedEvent {
+
+    private final String candidateId;
+    private final String enterpriseId;
+
+    public ApplicationChangedEvent(String candidateId, String enterpriseId) {
+        this.candidateId = candidateId;
+        this.enterpriseId = enterpriseId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getEnterpriseId() {
+        return enterpriseId;
+    }
+}
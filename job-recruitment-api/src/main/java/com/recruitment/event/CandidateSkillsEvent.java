@@ -0,0 +1,39 @@
+package com.recruitment.event;
+
+/**
+ * Fired when a candidate profile is created, changes skills or is deleted, so that
+ * the candidate skill index follows once the change is committed
+ */
+public class CandidateSkillsEvent {
+
+    private final String candidateId;
+    private final String skills;
+
+    private CandidateSkillsEvent(String candidateId, String skills) {
+        this.candidateId = candidateId;
+        this.skills = skills;
+    }
+
+    public static CandidateSkillsEvent saved(String candidateId, String skills) {
+        return new CandidateSkillsEvent(candidateId, skills);
+    }
+
+    public static CandidateSkillsEvent deleted(String candidateId) {
+        return new CandidateSkillsEvent(candidateId, null);
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public boolean isDeleted() {
+        return skills == null;
+    }
+
+    /**
+     * Skills JSON of the saved profile, or null if it was deleted
+     */
+    public String getSkills() {
+        return skills;
+    }
+}
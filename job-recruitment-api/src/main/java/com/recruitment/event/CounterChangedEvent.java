@@ -0,0 +1,25 @@
+package com.recruitment.event;
+
+import com.recruitment.enums.CounterType;
+
+/**
+ * Fired when rows counted on the admin dashboard are inserted or deleted
+ */
+public class CounterChangedEvent {
+
+    private final CounterType type;
+    private final long delta;
+
+    public CounterChangedEvent(CounterType type, long delta) {
+        this.type = type;
+        this.delta = delta;
+    }
+
+    public CounterType getType() {
+        return type;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,32 @@
+package com.recruitment.event;
+
+import com.recruitment.service.UploadCategory;
+
+/**
+ * Fired when a user's photo or an enterprise's logo is replaced, so that its
+ * resized variants can be generated
+ */
+public class ImageChangedEvent {
+
+    private final String userId;
+    private final UploadCategory category;
+    private final String url;
+
+    public ImageChangedEvent(String userId, UploadCategory category, String url) {
+        this.userId = userId;
+        this.category = category;
+        this.url = url;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public UploadCategory getCategory() {
+        return category;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+}
@@ -0,0 +1,37 @@
+package com.recruitment.event;
+
+import com.recruitment.entity.JobOffer;
+
+/**
+ * Fired when a job offer is saved or deleted, so that the search index follows
+ * once the change is committed
+ */
+public class JobChangedEvent {
+
+    private final String jobId;
+    private final JobOffer job;
+
+    private JobChangedEvent(String jobId, JobOffer job) {
+        this.jobId = jobId;
+        this.job = job;
+    }
+
+    public static JobChangedEvent saved(JobOffer job) {
+        return new JobChangedEvent(job.getId(), job);
+    }
+
+    public static JobChangedEvent deleted(String jobId) {
+        return new JobChangedEvent(jobId, null);
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * The saved job, or null if it was deleted
+     */
+    public JobOffer getJob() {
+        return job;
+    }
+}
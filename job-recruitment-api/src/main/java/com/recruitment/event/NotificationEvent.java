@@ -0,0 +1,23 @@
+package com.recruitment.event;
+
+/**
+ * Fired when a notification must be delivered to a user; persisted after commit
+ */
+public class NotificationEvent {
+
+    private final String userId;
+    private final String content;
+
+    public NotificationEvent(String userId, String content) {
+        this.userId = userId;
+        this.content = content;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,36 @@
+package com.recruitment.event;
+
+/**
+ * Fired when job requirements or candidate skills change, so that dependent
+ * matching scores can be recomputed
+ */
+public class SkillsChangedEvent {
+
+    public enum Kind {
+        JOB, CANDIDATE
+    }
+
+    private final Kind kind;
+    private final String id;
+
+    private SkillsChangedEvent(Kind kind, String id) {
+        this.kind = kind;
+        this.id = id;
+    }
+
+    public static SkillsChangedEvent forJob(String jobId) {
+        return new SkillsChangedEvent(Kind.JOB, jobId);
+    }
+
+    public static SkillsChangedEvent forCandidate(String candidateId) {
+        return new SkillsChangedEvent(Kind.CANDIDATE, candidateId);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
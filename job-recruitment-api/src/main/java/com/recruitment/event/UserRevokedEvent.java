@@ -0,0 +1,27 @@
+package com.recruitment.event;
+
+/**
+ * Fired when a user is deactivated or deleted, so that their access tokens are
+ * revoked and their candidate profile leaves the rankings once the change is committed
+ */
+public class UserRevokedEvent {
+
+    private final String userId;
+    private final String candidateId;
+
+    public UserRevokedEvent(String userId, String candidateId) {
+        this.userId = userId;
+        this.candidateId = candidateId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Candidate profile of the user, or null if the user is not a candidate
+     */
+    public String getCandidateId() {
+        return candidateId;
+    }
+}
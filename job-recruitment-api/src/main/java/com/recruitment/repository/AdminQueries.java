@@ -0,0 +1,53 @@
+package com.recruitment.repository;
+
+import jakarta.persistence.TypedQuery;
+import java.util.Map;
+
+/**
+ * JPQL fragments shared by the paginated admin lists
+ */
+final class AdminQueries {
+
+    private AdminQueries() {
+    }
+
+    /**
+     * Restrict to rows strictly after (afterValue, afterId) in the given order
+     */
+    static void appendAfter(StringBuilder jpql, Map<String, Object> params, String path, String idPath,
+            boolean ascending, Object afterValue, String afterId) {
+        if (afterValue == null) {
+            return;
+        }
+        String op = ascending ? ">" : "<";
+        jpql.append(" AND (").append(path).append(' ').append(op).append(" :afterValue OR (")
+                .append(path).append(" = :afterValue AND ").append(idPath).append(' ').append(op)
+                .append(" :afterId))");
+        params.put("afterValue", afterValue);
+        params.put("afterId", afterId);
+    }
+
+    static void appendOrderBy(StringBuilder jpql, String path, String idPath, boolean ascending) {
+        String direction = ascending ? " ASC" : " DESC";
+        jpql.append(" ORDER BY ").append(path).append(direction).append(", ").append(idPath).append(direction);
+    }
+
+    /**
+     * LIKE pattern matching values that start with the prefix (wildcards escaped with '!')
+     */
+    static String startsWith(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    static <T> TypedQuery<T> bind(TypedQuery<T> query, Map<String, Object> params) {
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    /**
+     * Number of ids returned by the query, counting at most cap + 1 rows
+     */
+    static long countUpTo(TypedQuery<String> idQuery, int cap) {
+        return idQuery.setMaxResults(cap + 1).getResultList().size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.recruitment.repository;
 
+import com.recruitment.dto.response.ApplicationResponse;
 import com.recruitment.entity.Application;
 import com.recruitment.enums.ApplicationStatus;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -7,7 +8,14 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,6 +25,31 @@ import java.util.Optional;
 @Transactional
 public class ApplicationRepository {
 
+    private static final int UPDATE_BATCH_SIZE = 500;
+
+    // List views select the response columns only: no TEXT columns they do not show
+    // (job description and requirements, company description...), no managed entities
+    private static final String LIST_SELECT =
+            "SELECT new com.recruitment.dto.response.ApplicationResponse(" +
+                    "a.id, a.status, a.matchingScore, a.isAnonymous, a.createdAt, a.updatedAt, " +
+                    "c.id, u.email, u.photoUrl, c.firstName, c.lastName, c.bio, c.phone, c.cvUrl, c.skills, " +
+                    "j.id, j.title, j.location, e.companyName, " +
+                    "i.id, i.date, i.meetingLink, i.status, i.createdAt) " +
+                    "FROM Application a " +
+                    "JOIN a.candidate c " +
+                    "JOIN c.user u " +
+                    "JOIN a.jobOffer j " +
+                    "JOIN j.enterprise e " +
+                    "LEFT JOIN a.interview i ";
+
+    // Sorts of the admin application list, each backed by an index ending in id
+    public static final SortKey<ApplicationResponse> SORT_CREATED_AT = new SortKey<>(
+            "createdAt", "a.createdAt", ApplicationResponse::getCreatedAt, LocalDateTime::parse);
+    public static final SortKey<ApplicationResponse> SORT_MATCHING_SCORE = new SortKey<>(
+            "matchingScore", "a.matchingScore", a -> Double.toString(a.getMatchingScore()), Double::valueOf);
+    public static final List<SortKey<ApplicationResponse>> ADMIN_SORTS =
+            List.of(SORT_CREATED_AT, SORT_MATCHING_SCORE);
+
     @PersistenceContext(unitName = "recruitmentPU")
     private EntityManager em;
 
@@ -68,63 +101,103 @@ public class ApplicationRepository {
         }
     }
 
-    public List<Application> findByCandidateId(String candidateId) {
+    public List<ApplicationResponse> listByCandidateId(String candidateId) {
         return em.createQuery(
-                "SELECT a FROM Application a " +
-                        "JOIN FETCH a.candidate c " +
-                        "JOIN FETCH c.user " +
-                        "JOIN FETCH a.jobOffer j " +
-                        "JOIN FETCH j.enterprise e " +
-                        "JOIN FETCH e.user " +
-                        "LEFT JOIN FETCH a.interview " +
-                        "WHERE a.candidate.id = :candidateId " +
+                LIST_SELECT +
+                        "WHERE c.id = :candidateId " +
                         "ORDER BY a.createdAt DESC",
-                Application.class)
+                ApplicationResponse.class)
                 .setParameter("candidateId", candidateId)
                 .getResultList();
     }
 
-    public List<Application> findByEnterpriseId(String enterpriseId) {
+    public List<ApplicationResponse> listByEnterpriseId(String enterpriseId) {
         return em.createQuery(
-                "SELECT a FROM Application a " +
-                        "JOIN FETCH a.candidate c " +
-                        "JOIN FETCH c.user " +
-                        "JOIN FETCH a.jobOffer j " +
-                        "JOIN FETCH j.enterprise " +
-                        "LEFT JOIN FETCH a.interview " +
-                        "WHERE j.enterprise.id = :enterpriseId " +
+                LIST_SELECT +
+                        "WHERE e.id = :enterpriseId " +
                         "ORDER BY a.createdAt DESC",
-                Application.class)
+                ApplicationResponse.class)
                 .setParameter("enterpriseId", enterpriseId)
                 .getResultList();
     }
 
-    public List<Application> findByJobId(String jobId) {
+    /**
+     * Most recent applications to an enterprise's jobs, limited in the database
+     */
+    public List<ApplicationResponse> listRecentByEnterpriseId(String enterpriseId, int limit) {
         return em.createQuery(
-                "SELECT a FROM Application a " +
-                        "JOIN FETCH a.candidate c " +
-                        "JOIN FETCH c.user " +
-                        "LEFT JOIN FETCH a.interview " +
-                        "WHERE a.jobOffer.id = :jobId " +
+                LIST_SELECT +
+                        "WHERE e.id = :enterpriseId " +
                         "ORDER BY a.createdAt DESC",
-                Application.class)
-                .setParameter("jobId", jobId)
+                ApplicationResponse.class)
+                .setParameter("enterpriseId", enterpriseId)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
-    public List<Application> findAll() {
+    public List<ApplicationResponse> listByJobId(String jobId) {
         return em.createQuery(
-                "SELECT a FROM Application a " +
-                        "JOIN FETCH a.candidate c " +
-                        "JOIN FETCH c.user " +
-                        "JOIN FETCH a.jobOffer j " +
-                        "JOIN FETCH j.enterprise " +
-                        "LEFT JOIN FETCH a.interview " +
+                LIST_SELECT +
+                        "WHERE j.id = :jobId " +
                         "ORDER BY a.createdAt DESC",
-                Application.class)
+                ApplicationResponse.class)
+                .setParameter("jobId", jobId)
+                .getResultList();
+    }
+
+    /**
+     * Keyset page of the admin application list; null filters are ignored and the email
+     * filter applies to the candidate account
+     */
+    public List<ApplicationResponse> listAdminPage(ApplicationStatus status, LocalDateTime from, LocalDateTime to,
+            String emailPrefix, SortKey<ApplicationResponse> sort, boolean ascending, Object afterValue, String afterId,
+            int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(LIST_SELECT).append("WHERE 1 = 1");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        AdminQueries.appendAfter(jpql, params, sort.getPath(), "a.id", ascending, afterValue, afterId);
+        AdminQueries.appendOrderBy(jpql, sort.getPath(), "a.id", ascending);
+
+        return AdminQueries.bind(em.createQuery(jpql.toString(), ApplicationResponse.class), params)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
+    /**
+     * Number of applications matching the admin filters, counting at most cap + 1
+     */
+    public long countAdmin(ApplicationStatus status, LocalDateTime from, LocalDateTime to, String emailPrefix,
+            int cap) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT a.id FROM Application a");
+        if (emailPrefix != null) {
+            jpql.append(" JOIN a.candidate c JOIN c.user u");
+        }
+        jpql.append(" WHERE 1 = 1");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        return AdminQueries.countUpTo(AdminQueries.bind(em.createQuery(jpql.toString(), String.class), params), cap);
+    }
+
+    private void appendAdminFilters(StringBuilder jpql, Map<String, Object> params, ApplicationStatus status,
+            LocalDateTime from, LocalDateTime to, String emailPrefix) {
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+            params.put("status", status);
+        }
+        if (from != null) {
+            jpql.append(" AND a.createdAt >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND a.createdAt < :to");
+            params.put("to", to);
+        }
+        if (emailPrefix != null) {
+            jpql.append(" AND u.email LIKE :email ESCAPE '!'");
+            params.put("email", AdminQueries.startsWith(emailPrefix));
+        }
+    }
+
     public void delete(Application application) {
         em.remove(em.contains(application) ? application : em.merge(application));
     }
@@ -136,33 +209,30 @@ public class ApplicationRepository {
                 .getSingleResult();
     }
 
-    public long countByCandidateIdAndStatus(String candidateId, ApplicationStatus status) {
-        return em.createQuery(
-                "SELECT COUNT(a) FROM Application a " +
-                        "WHERE a.candidate.id = :candidateId AND a.status = :status",
-                Long.class)
+    /**
+     * Number of applications of a candidate per status, in one grouped query
+     */
+    public Map<ApplicationStatus, Long> countByCandidateIdGroupedByStatus(String candidateId) {
+        return toStatusCounts(em.createQuery(
+                "SELECT a.status, COUNT(a) FROM Application a " +
+                        "WHERE a.candidate.id = :candidateId " +
+                        "GROUP BY a.status",
+                Object[].class)
                 .setParameter("candidateId", candidateId)
-                .setParameter("status", status)
-                .getSingleResult();
+                .getResultList());
     }
 
-    public long countByEnterpriseId(String enterpriseId) {
-        return em.createQuery(
-                "SELECT COUNT(a) FROM Application a " +
-                        "WHERE a.jobOffer.enterprise.id = :enterpriseId",
-                Long.class)
+    /**
+     * Number of applications to an enterprise's jobs per status, in one grouped query
+     */
+    public Map<ApplicationStatus, Long> countByEnterpriseIdGroupedByStatus(String enterpriseId) {
+        return toStatusCounts(em.createQuery(
+                "SELECT a.status, COUNT(a) FROM Application a JOIN a.jobOffer j " +
+                        "WHERE j.enterprise.id = :enterpriseId " +
+                        "GROUP BY a.status",
+                Object[].class)
                 .setParameter("enterpriseId", enterpriseId)
-                .getSingleResult();
-    }
-
-    public long countByEnterpriseIdAndStatus(String enterpriseId, ApplicationStatus status) {
-        return em.createQuery(
-                "SELECT COUNT(a) FROM Application a " +
-                        "WHERE a.jobOffer.enterprise.id = :enterpriseId AND a.status = :status",
-                Long.class)
-                .setParameter("enterpriseId", enterpriseId)
-                .setParameter("status", status)
-                .getSingleResult();
+                .getResultList());
     }
 
     public List<String> findAppliedJobIdsByCandidateId(String candidateId) {
@@ -173,9 +243,73 @@ public class ApplicationRepository {
                 .getResultList();
     }
 
+    /**
+     * (application id, current score, candidate skills, job requirements) of a job's applications
+     */
+    public List<Object[]> findScoringRowsByJobId(String jobId) {
+        return em.createQuery(
+                "SELECT a.id, a.matchingScore, c.skills, j.requirements FROM Application a " +
+                        "JOIN a.candidate c JOIN a.jobOffer j " +
+                        "WHERE j.id = :jobId",
+                Object[].class)
+                .setParameter("jobId", jobId)
+                .getResultList();
+    }
+
+    /**
+     * (application id, current score, candidate skills, job requirements) of a candidate's applications
+     */
+    public List<Object[]> findScoringRowsByCandidateId(String candidateId) {
+        return em.createQuery(
+                "SELECT a.id, a.matchingScore, c.skills, j.requirements FROM Application a " +
+                        "JOIN a.candidate c JOIN a.jobOffer j " +
+                        "WHERE c.id = :candidateId",
+                Object[].class)
+                .setParameter("candidateId", candidateId)
+                .getResultList();
+    }
+
+    /**
+     * Write matching scores with batched JDBC updates
+     */
+    public void updateMatchingScores(Map<String, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE applications SET matching_score = ? WHERE id = ?")) {
+                int pending = 0;
+                for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                    statement.setDouble(1, entry.getValue());
+                    statement.setString(2, entry.getKey());
+                    statement.addBatch();
+                    if (++pending == UPDATE_BATCH_SIZE) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
     public long count() {
         return em.createQuery(
                 "SELECT COUNT(a) FROM Application a", Long.class)
                 .getSingleResult();
     }
+
+    private Map<ApplicationStatus, Long> toStatusCounts(List<Object[]> rows) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : rows) {
+            counts.put((ApplicationStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
 }
@@ -6,6 +6,9 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +18,8 @@ import java.util.Optional;
 @Transactional
 public class CandidateProfileRepository {
 
+    public static final String BY_USER_REGION = "recruitment.candidateProfileByUser";
+
     @PersistenceContext(unitName = "recruitmentPU")
     private EntityManager em;
 
@@ -32,12 +37,18 @@ public class CandidateProfileRepository {
         return Optional.ofNullable(profile);
     }
 
+    /**
+     * Profile of a user. The query result (the profile id) is cached and the profile itself
+     * comes from the entity cache; both are invalidated by writes to candidate_profiles.
+     */
     public Optional<CandidateProfile> findByUserId(String userId) {
         try {
             CandidateProfile profile = em.createQuery(
                     "SELECT cp FROM CandidateProfile cp WHERE cp.user.id = :userId",
                     CandidateProfile.class)
                     .setParameter("userId", userId)
+                    .setHint(HibernateHints.HINT_CACHEABLE, true)
+                    .setHint(HibernateHints.HINT_CACHE_REGION, BY_USER_REGION)
                     .getSingleResult();
             return Optional.of(profile);
         } catch (NoResultException e) {
@@ -61,6 +72,31 @@ public class CandidateProfileRepository {
         }
     }
 
+    /**
+     * Profiles of active candidates among the given ids, with their user
+     */
+    public List<CandidateProfile> findByIdsWithUser(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                "SELECT cp FROM CandidateProfile cp " +
+                        "JOIN FETCH cp.user u " +
+                        "WHERE cp.id IN :ids AND u.isActive = true",
+                CandidateProfile.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    /**
+     * (id, skills JSON) of every candidate profile whose user is active
+     */
+    public List<Object[]> findAllSkills() {
+        return em.createQuery(
+                "SELECT cp.id, cp.skills FROM CandidateProfile cp WHERE cp.user.isActive = true", Object[].class)
+                .getResultList();
+    }
+
     public void delete(CandidateProfile profile) {
         em.remove(em.contains(profile) ? profile : em.merge(profile));
     }
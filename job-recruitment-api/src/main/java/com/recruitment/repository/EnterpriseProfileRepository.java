@@ -3,9 +3,11 @@ package com.recruitment.repository;
 import com.recruitment.entity.EnterpriseProfile;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -60,6 +62,26 @@ public class EnterpriseProfileRepository {
         }
     }
 
+    /**
+     * Store the logo variants, unless the logo was replaced while they were generated
+     */
+    public boolean updateLogoVariants(String userId, String sourceUrl, String smallUrl, String mediumUrl) {
+        // Dirty-checked rather than a bulk update, which would evict the whole cache region
+        List<EnterpriseProfile> profiles = em.createQuery(
+                "SELECT ep FROM EnterpriseProfile ep WHERE ep.user.id = :userId",
+                EnterpriseProfile.class)
+                .setParameter("userId", userId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (profiles.isEmpty() || !sourceUrl.equals(profiles.get(0).getLogoUrl())) {
+            return false;
+        }
+        EnterpriseProfile profile = profiles.get(0);
+        profile.setLogoSmallUrl(smallUrl);
+        profile.setLogoMediumUrl(mediumUrl);
+        return true;
+    }
+
     public void delete(EnterpriseProfile profile) {
         em.remove(em.contains(profile) ? profile : em.merge(profile));
     }
@@ -0,0 +1,129 @@
+package com.recruitment.repository;
+
+import com.recruitment.entity.FileBlob;
+import com.recruitment.entity.FileReference;
+import com.recruitment.entity.User;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Repository for FileBlob and FileReference entity operations
+ */
+@ApplicationScoped
+@Transactional
+public class FileBlobRepository {
+
+    @PersistenceContext(unitName = "recruitmentPU")
+    private EntityManager em;
+
+    public Optional<FileBlob> findByHash(String hash) {
+        return Optional.ofNullable(em.find(FileBlob.class, hash));
+    }
+
+    /**
+     * Record an uploaded blob, creating its row if it is new. The blob gains no reference
+     * here: it is only kept through the garbage collection grace period, which restarts.
+     */
+    public void register(String hash, String contentType, long size) {
+        FileBlob blob = em.find(FileBlob.class, hash, LockModeType.PESSIMISTIC_WRITE);
+        if (blob == null) {
+            em.persist(new FileBlob(hash, contentType, size));
+        } else {
+            blob.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Point the user's reference for a category to a blob (null drops it), moving the
+     * reference count from the previous blob to the new one.
+     * Returns false, changing nothing, if the blob does not exist.
+     */
+    public boolean setReference(String userId, String category, String hash) {
+        List<FileReference> existing = em.createQuery(
+                "SELECT r FROM FileReference r WHERE r.user.id = :userId AND r.category = :category",
+                FileReference.class)
+                .setParameter("userId", userId)
+                .setParameter("category", category)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        FileReference reference = existing.isEmpty() ? null : existing.get(0);
+        String current = reference != null ? reference.getBlobHash() : null;
+        if (Objects.equals(current, hash)) {
+            return true;
+        }
+
+        if (hash != null) {
+            // Locked so that the collector cannot delete it before this transaction commits
+            FileBlob blob = em.find(FileBlob.class, hash, LockModeType.PESSIMISTIC_WRITE);
+            if (blob == null) {
+                return false;
+            }
+            blob.setRefCount(blob.getRefCount() + 1);
+        }
+
+        if (reference == null) {
+            em.persist(new FileReference(em.getReference(User.class, userId), category, hash));
+        } else if (hash == null) {
+            em.remove(reference);
+        } else {
+            reference.setBlobHash(hash);
+        }
+        if (current != null) {
+            release(current);
+        }
+        return true;
+    }
+
+    /**
+     * Drop every file reference of a user
+     */
+    public void detachAll(String userId) {
+        List<String> hashes = em.createQuery(
+                "SELECT r.blobHash FROM FileReference r WHERE r.user.id = :userId", String.class)
+                .setParameter("userId", userId)
+                .getResultList();
+        em.createQuery("DELETE FROM FileReference r WHERE r.user.id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        hashes.forEach(this::release);
+    }
+
+    /**
+     * Blobs that nobody references since before the given time
+     */
+    public List<FileBlob> findUnreferenced(LocalDateTime before, int limit) {
+        return em.createQuery(
+                "SELECT b FROM FileBlob b WHERE b.refCount = 0 AND b.updatedAt < :before", FileBlob.class)
+                .setParameter("before", before)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Delete a blob row if it is still unreferenced and was not uploaded again since the
+     * given time; returns true if it was deleted
+     */
+    public boolean deleteIfUnreferenced(String hash, LocalDateTime before) {
+        return em.createQuery(
+                "DELETE FROM FileBlob b WHERE b.hash = :hash AND b.refCount = 0 AND b.updatedAt < :before")
+                .setParameter("hash", hash)
+                .setParameter("before", before)
+                .executeUpdate() > 0;
+    }
+
+    private void release(String hash) {
+        em.createQuery(
+                "UPDATE FileBlob b SET b.refCount = b.refCount - 1, b.updatedAt = :now " +
+                        "WHERE b.hash = :hash AND b.refCount > 0")
+                .setParameter("hash", hash)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+}
@@ -8,7 +8,9 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,6 +20,13 @@ import java.util.Optional;
 @Transactional
 public class InterviewRepository {
 
+    // Sorts of the admin interview list, each backed by an index ending in id
+    public static final SortKey<Interview> SORT_DATE = new SortKey<>(
+            "date", "i.date", i -> i.getDate().toString(), LocalDateTime::parse);
+    public static final SortKey<Interview> SORT_CREATED_AT = new SortKey<>(
+            "createdAt", "i.createdAt", i -> i.getCreatedAt().toString(), LocalDateTime::parse);
+    public static final List<SortKey<Interview>> ADMIN_SORTS = List.of(SORT_DATE, SORT_CREATED_AT);
+
     @PersistenceContext(unitName = "recruitmentPU")
     private EntityManager em;
 
@@ -77,20 +86,68 @@ public class InterviewRepository {
                 .getResultList();
     }
 
-    public List<Interview> findAllWithDetails() {
-        return em.createQuery(
+    /**
+     * Keyset page of the admin interview list with application, candidate and job details.
+     * Null filters are ignored; the date range applies to the interview date and the email
+     * filter to the candidate account.
+     */
+    public List<Interview> findAdminPage(InterviewStatus status, LocalDateTime from, LocalDateTime to,
+            String emailPrefix, SortKey<Interview> sort, boolean ascending, Object afterValue, String afterId,
+            int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
                 "SELECT i FROM Interview i " +
                         "JOIN FETCH i.application a " +
                         "JOIN FETCH a.candidate c " +
-                        "JOIN FETCH c.user " +
+                        "JOIN FETCH c.user u " +
                         "JOIN FETCH a.jobOffer j " +
                         "JOIN FETCH j.enterprise e " +
                         "JOIN FETCH e.user " +
-                        "ORDER BY i.date DESC",
-                Interview.class)
+                        "WHERE 1 = 1");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        AdminQueries.appendAfter(jpql, params, sort.getPath(), "i.id", ascending, afterValue, afterId);
+        AdminQueries.appendOrderBy(jpql, sort.getPath(), "i.id", ascending);
+
+        return AdminQueries.bind(em.createQuery(jpql.toString(), Interview.class), params)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
+    /**
+     * Number of interviews matching the admin filters, counting at most cap + 1
+     */
+    public long countAdmin(InterviewStatus status, LocalDateTime from, LocalDateTime to, String emailPrefix,
+            int cap) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT i.id FROM Interview i");
+        if (emailPrefix != null) {
+            jpql.append(" JOIN i.application a JOIN a.candidate c JOIN c.user u");
+        }
+        jpql.append(" WHERE 1 = 1");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        return AdminQueries.countUpTo(AdminQueries.bind(em.createQuery(jpql.toString(), String.class), params), cap);
+    }
+
+    private void appendAdminFilters(StringBuilder jpql, Map<String, Object> params, InterviewStatus status,
+            LocalDateTime from, LocalDateTime to, String emailPrefix) {
+        if (status != null) {
+            jpql.append(" AND i.status = :status");
+            params.put("status", status);
+        }
+        if (from != null) {
+            jpql.append(" AND i.date >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND i.date < :to");
+            params.put("to", to);
+        }
+        if (emailPrefix != null) {
+            jpql.append(" AND u.email LIKE :email ESCAPE '!'");
+            params.put("email", AdminQueries.startsWith(emailPrefix));
+        }
+    }
+
     public void delete(Interview interview) {
         em.remove(em.contains(interview) ? interview : em.merge(interview));
     }
@@ -1,6 +1,7 @@
 package com.recruitment.repository;
 
 import com.recruitment.entity.JobOffer;
+import com.recruitment.entity.JobOfferStats;
 import com.recruitment.enums.JobStatus;
 import com.recruitment.enums.JobType;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -8,7 +9,12 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.hibernate.query.NativeQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,12 +24,25 @@ import java.util.Optional;
 @Transactional
 public class JobOfferRepository {
 
+    // Query space of the counter update: matches no entity, so no cache region is flushed by it
+    private static final String APPLICATION_COUNT_SPACE = "job_offers.application_count";
+
+    // Sorts of the admin job list, each backed by an index ending in id
+    public static final SortKey<JobOffer> SORT_CREATED_AT = new SortKey<>(
+            "createdAt", "j.createdAt", j -> j.getCreatedAt().toString(), LocalDateTime::parse);
+    public static final SortKey<JobOffer> SORT_TITLE = new SortKey<>(
+            "title", "j.title", JobOffer::getTitle, value -> value);
+    public static final List<SortKey<JobOffer>> ADMIN_SORTS = List.of(SORT_CREATED_AT, SORT_TITLE);
+
     @PersistenceContext(unitName = "recruitmentPU")
     private EntityManager em;
 
     public JobOffer save(JobOffer jobOffer) {
         if (jobOffer.getId() == null) {
             em.persist(jobOffer);
+            // The counters are read from the inserted row, so that they are never guessed
+            em.flush();
+            jobOffer.setStats(em.find(JobOfferStats.class, jobOffer.getId()));
             return jobOffer;
         } else {
             return em.merge(jobOffer);
@@ -40,6 +59,7 @@ public class JobOfferRepository {
             JobOffer job = em.createQuery(
                     "SELECT j FROM JobOffer j " +
                             "JOIN FETCH j.enterprise " +
+                        "LEFT JOIN FETCH j.stats " +
                             "WHERE j.id = :id",
                     JobOffer.class)
                     .setParameter("id", id)
@@ -55,6 +75,7 @@ public class JobOfferRepository {
             JobOffer job = em.createQuery(
                     "SELECT j FROM JobOffer j " +
                             "JOIN FETCH j.enterprise " +
+                        "LEFT JOIN FETCH j.stats " +
                             "WHERE j.id = :id AND j.status = :status",
                     JobOffer.class)
                     .setParameter("id", id)
@@ -66,19 +87,68 @@ public class JobOfferRepository {
         }
     }
 
-    public List<JobOffer> findAll() {
-        return em.createQuery(
-                "SELECT j FROM JobOffer j " +
-                        "JOIN FETCH j.enterprise " +
-                        "ORDER BY j.createdAt DESC",
-                JobOffer.class)
+    /**
+     * Keyset page of the admin job list; null filters are ignored and the email
+     * filter applies to the enterprise account
+     */
+    public List<JobOffer> findAdminPage(JobStatus status, LocalDateTime from, LocalDateTime to, String emailPrefix,
+            SortKey<JobOffer> sort, boolean ascending, Object afterValue, String afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "SELECT j FROM JobOffer j JOIN FETCH j.enterprise e LEFT JOIN FETCH j.stats");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        AdminQueries.appendAfter(jpql, params, sort.getPath(), "j.id", ascending, afterValue, afterId);
+        AdminQueries.appendOrderBy(jpql, sort.getPath(), "j.id", ascending);
+
+        return AdminQueries.bind(em.createQuery(jpql.toString(), JobOffer.class), params)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
-    public List<JobOffer> findActiveJobs(JobType type, String location, String search) {
+    /**
+     * Number of jobs matching the admin filters, counting at most cap + 1
+     */
+    public long countAdmin(JobStatus status, LocalDateTime from, LocalDateTime to, String emailPrefix, int cap) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT j.id FROM JobOffer j JOIN j.enterprise e");
+        appendAdminFilters(jpql, params, status, from, to, emailPrefix);
+        return AdminQueries.countUpTo(AdminQueries.bind(em.createQuery(jpql.toString(), String.class), params), cap);
+    }
+
+    private void appendAdminFilters(StringBuilder jpql, Map<String, Object> params, JobStatus status,
+            LocalDateTime from, LocalDateTime to, String emailPrefix) {
+        if (emailPrefix != null) {
+            jpql.append(" JOIN e.user eu");
+        }
+        jpql.append(" WHERE 1 = 1");
+        if (status != null) {
+            jpql.append(" AND j.status = :status");
+            params.put("status", status);
+        }
+        if (from != null) {
+            jpql.append(" AND j.createdAt >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND j.createdAt < :to");
+            params.put("to", to);
+        }
+        if (emailPrefix != null) {
+            jpql.append(" AND eu.email LIKE :email ESCAPE '!'");
+            params.put("email", AdminQueries.startsWith(emailPrefix));
+        }
+    }
+
+    /**
+     * Keyset page of active jobs ordered by (createdAt, id) descending.
+     * Rows strictly after (afterCreatedAt, afterId) are returned; pass nulls for the first page.
+     */
+    public List<JobOffer> findActiveJobs(JobType type, String location,
+            LocalDateTime afterCreatedAt, String afterId, int limit) {
         StringBuilder jpql = new StringBuilder(
-                "SELECT DISTINCT j FROM JobOffer j " +
+                "SELECT j FROM JobOffer j " +
                         "JOIN FETCH j.enterprise " +
+                        "LEFT JOIN FETCH j.stats " +
                         "WHERE j.status = :status");
 
         if (type != null) {
@@ -87,13 +157,15 @@ public class JobOfferRepository {
         if (location != null && !location.isEmpty()) {
             jpql.append(" AND LOWER(j.location) LIKE LOWER(:location)");
         }
-        if (search != null && !search.isEmpty()) {
-            jpql.append(" AND (LOWER(j.title) LIKE LOWER(:search) OR LOWER(j.description) LIKE LOWER(:search))");
+        if (afterCreatedAt != null) {
+            jpql.append(" AND (j.createdAt < :afterCreatedAt" +
+                    " OR (j.createdAt = :afterCreatedAt AND j.id < :afterId))");
         }
-        jpql.append(" ORDER BY j.createdAt DESC");
+        jpql.append(" ORDER BY j.createdAt DESC, j.id DESC");
 
         TypedQuery<JobOffer> query = em.createQuery(jpql.toString(), JobOffer.class)
-                .setParameter("status", JobStatus.ACTIVE);
+                .setParameter("status", JobStatus.ACTIVE)
+                .setMaxResults(limit);
 
         if (type != null) {
             query.setParameter("type", type);
@@ -101,16 +173,44 @@ public class JobOfferRepository {
         if (location != null && !location.isEmpty()) {
             query.setParameter("location", "%" + location + "%");
         }
-        if (search != null && !search.isEmpty()) {
-            query.setParameter("search", "%" + search + "%");
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt);
+            query.setParameter("afterId", afterId);
         }
 
         return query.getResultList();
     }
 
+    /**
+     * Load active jobs by id in a single query (order is not preserved)
+     */
+    public List<JobOffer> findActiveByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return em.createQuery(
+                "SELECT j FROM JobOffer j " +
+                        "JOIN FETCH j.enterprise " +
+                        "LEFT JOIN FETCH j.stats " +
+                        "WHERE j.id IN :ids AND j.status = :status",
+                JobOffer.class)
+                .setParameter("ids", ids)
+                .setParameter("status", JobStatus.ACTIVE)
+                .getResultList();
+    }
+
+    public List<JobOffer> findByStatus(JobStatus status) {
+        return em.createQuery(
+                "SELECT j FROM JobOffer j WHERE j.status = :status",
+                JobOffer.class)
+                .setParameter("status", status)
+                .getResultList();
+    }
+
     public List<JobOffer> findByEnterpriseId(String enterpriseId) {
         return em.createQuery(
                 "SELECT j FROM JobOffer j " +
+                        "LEFT JOIN FETCH j.stats " +
                         "WHERE j.enterprise.id = :enterpriseId " +
                         "ORDER BY j.createdAt DESC",
                 JobOffer.class)
@@ -145,6 +245,34 @@ public class JobOfferRepository {
                 .getSingleResult();
     }
 
+    /**
+     * Atomically adjust the denormalized application counter of a job.
+     * The counter lives on JobOfferStats, which is not cached, and this native update is
+     * bound to a query space of its own, so no cached job offer is invalidated by it.
+     */
+    public void adjustApplicationCount(String jobId, int delta) {
+        em.createNativeQuery(
+                "UPDATE job_offers SET application_count = application_count + :delta WHERE id = :id")
+                .setParameter("delta", delta)
+                .setParameter("id", jobId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(APPLICATION_COUNT_SPACE)
+                .executeUpdate();
+    }
+
+    /**
+     * Decrement the counters of every job a candidate applied to (before the candidate is removed)
+     */
+    public void decrementApplicationCountsForCandidate(String candidateId) {
+        em.createNativeQuery(
+                "UPDATE job_offers SET application_count = application_count - 1 " +
+                        "WHERE id IN (SELECT a.job_offer_id FROM applications a WHERE a.candidate_id = :candidateId)")
+                .setParameter("candidateId", candidateId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(APPLICATION_COUNT_SPACE)
+                .executeUpdate();
+    }
+
     public long count() {
         return em.createQuery(
                 "SELECT COUNT(j) FROM JobOffer j", Long.class)
@@ -1,10 +1,13 @@
 package com.recruitment.repository;
 
 import com.recruitment.entity.Notification;
+import com.recruitment.entity.User;
+import com.recruitment.event.NotificationEvent;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,21 @@ public class NotificationRepository {
         }
     }
 
+    /**
+     * Insert notifications in one flush, referencing users by id without loading them
+     */
+    public List<Notification> saveAll(List<NotificationEvent> events) {
+        List<Notification> saved = new ArrayList<>(events.size());
+        for (NotificationEvent event : events) {
+            Notification notification = new Notification(
+                    em.getReference(User.class, event.getUserId()), event.getContent());
+            em.persist(notification);
+            saved.add(notification);
+        }
+        em.flush();
+        return saved;
+    }
+
     public Optional<Notification> findById(String id) {
         Notification notification = em.find(Notification.class, id);
         return Optional.ofNullable(notification);
@@ -43,6 +61,23 @@ public class NotificationRepository {
                 .getResultList();
     }
 
+    /**
+     * Notifications of a user stored after the given one, in the order they were pushed.
+     * Keyed on the insert sequence: created_at ties (second precision) are neither replayed twice nor skipped.
+     */
+    public List<Notification> findByUserIdAfter(String userId, String notificationId, int limit) {
+        return em.createQuery(
+                "SELECT n FROM Notification n " +
+                        "WHERE n.user.id = :userId " +
+                        "AND n.seq > (SELECT p.seq FROM Notification p WHERE p.id = :id) " +
+                        "ORDER BY n.seq ASC",
+                Notification.class)
+                .setParameter("userId", userId)
+                .setParameter("id", notificationId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public List<Notification> findUnreadByUserId(String userId) {
         return em.createQuery(
                 "SELECT n FROM Notification n " +
@@ -62,16 +97,21 @@ public class NotificationRepository {
                 .getSingleResult();
     }
 
-    public void markAsRead(String notificationId) {
-        em.createQuery(
-                "UPDATE Notification n SET n.read = true WHERE n.id = :id")
+    /**
+     * Mark a user's notification as read; returns 1 if it was unread, 0 otherwise
+     */
+    public int markAsRead(String userId, String notificationId) {
+        return em.createQuery(
+                "UPDATE Notification n SET n.read = true " +
+                        "WHERE n.id = :id AND n.user.id = :userId AND n.read = false")
                 .setParameter("id", notificationId)
+                .setParameter("userId", userId)
                 .executeUpdate();
     }
 
-    public void markAllAsReadByUserId(String userId) {
-        em.createQuery(
-                "UPDATE Notification n SET n.read = true WHERE n.user.id = :userId")
+    public int markAllAsReadByUserId(String userId) {
+        return em.createQuery(
+                "UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
                 .setParameter("userId", userId)
                 .executeUpdate();
     }
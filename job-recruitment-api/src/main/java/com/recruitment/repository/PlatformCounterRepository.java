@@ -0,0 +1,57 @@
+package com.recruitment.repository;
+
+import com.recruitment.entity.PlatformCounter;
+import com.recruitment.enums.CounterType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Repository for PlatformCounter entity operations
+ */
+@ApplicationScoped
+@Transactional
+public class PlatformCounterRepository {
+
+    @PersistenceContext(unitName = "recruitmentPU")
+    private EntityManager em;
+
+    public Map<CounterType, Long> findAll() {
+        Map<CounterType, Long> counters = new EnumMap<>(CounterType.class);
+        for (PlatformCounter counter : em.createQuery("SELECT c FROM PlatformCounter c", PlatformCounter.class)
+                .getResultList()) {
+            counters.put(counter.getName(), counter.getTotal());
+        }
+        return counters;
+    }
+
+    /**
+     * Add a delta to a counter; returns false if the counter does not exist yet
+     */
+    public boolean increment(CounterType name, long delta) {
+        return em.createQuery(
+                "UPDATE PlatformCounter c SET c.total = c.total + :delta, c.updatedAt = :now WHERE c.name = :name")
+                .setParameter("delta", delta)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("name", name)
+                .executeUpdate() > 0;
+    }
+
+    /**
+     * Overwrite counters with exact values, creating the missing ones
+     */
+    public void setAll(Map<CounterType, Long> values) {
+        values.forEach((name, value) -> {
+            PlatformCounter counter = em.find(PlatformCounter.class, name);
+            if (counter == null) {
+                em.persist(new PlatformCounter(name, value));
+            } else {
+                counter.setTotal(value);
+            }
+        });
+    }
+}
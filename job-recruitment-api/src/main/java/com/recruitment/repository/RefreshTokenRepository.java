@@ -0,0 +1,70 @@
+package com.recruitment.repository;
+
+import com.recruitment.entity.RefreshToken;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for RefreshToken entity operations
+ */
+@ApplicationScoped
+@Transactional
+public class RefreshTokenRepository {
+
+    @PersistenceContext(unitName = "recruitmentPU")
+    private EntityManager em;
+
+    public RefreshToken save(RefreshToken token) {
+        if (token.getId() == null) {
+            em.persist(token);
+            return token;
+        } else {
+            return em.merge(token);
+        }
+    }
+
+    /**
+     * Find a token by its hash, locking the row so that one token cannot be rotated twice concurrently
+     */
+    public Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash) {
+        List<RefreshToken> tokens = em.createQuery(
+                "SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :hash",
+                RefreshToken.class)
+                .setParameter("hash", tokenHash)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        return tokens.stream().findFirst();
+    }
+
+    public int revokeFamily(String familyId) {
+        return em.createQuery(
+                "UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+                .setParameter("familyId", familyId)
+                .executeUpdate();
+    }
+
+    public int revokeByUserId(String userId) {
+        return em.createQuery(
+                "UPDATE RefreshToken t SET t.revoked = true WHERE t.user.id = :userId AND t.revoked = false")
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    public int deleteByUserId(String userId) {
+        return em.createQuery("DELETE FROM RefreshToken t WHERE t.user.id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        return em.createQuery("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
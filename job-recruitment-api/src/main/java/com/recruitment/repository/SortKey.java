@@ -0,0 +1,51 @@
+package com.recruitment.repository;
+
+import java.util.function.Function;
+
+/**
+ * Whitelisted sort key of an admin list.
+ * Each key maps to a JPQL path backed by a (column, id) index and knows how to
+ * read and restore its value in a keyset cursor.
+ */
+public final class SortKey<T> {
+
+    private final String name;
+    private final String path;
+    private final Function<T, String> cursorValue;
+    private final Function<String, Object> parser;
+
+    public SortKey(String name, String path, Function<T, String> cursorValue, Function<String, Object> parser) {
+        this.name = name;
+        this.path = path;
+        this.cursorValue = cursorValue;
+        this.parser = parser;
+    }
+
+    /**
+     * Name accepted in the "sort" query parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * JPQL path of the sorted attribute
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Cursor value of a row
+     */
+    public String cursorValue(T row) {
+        return cursorValue.apply(row);
+    }
+
+    /**
+     * Restore a cursor value to the attribute type (throws on malformed input)
+     */
+    public Object parseCursorValue(String value) {
+        return parser.apply(value);
+    }
+}
@@ -1,12 +1,17 @@
 package com.recruitment.repository;
 
 import com.recruitment.entity.User;
+import com.recruitment.enums.Role;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,6 +21,13 @@ import java.util.Optional;
 @Transactional
 public class UserRepository {
 
+    // Sorts of the admin user list, each backed by an index ending in id
+    public static final SortKey<User> SORT_CREATED_AT = new SortKey<>(
+            "createdAt", "u.createdAt", u -> u.getCreatedAt().toString(), LocalDateTime::parse);
+    public static final SortKey<User> SORT_EMAIL = new SortKey<>(
+            "email", "u.email", User::getEmail, value -> value);
+    public static final List<SortKey<User>> ADMIN_SORTS = List.of(SORT_CREATED_AT, SORT_EMAIL);
+
     @PersistenceContext(unitName = "recruitmentPU")
     private EntityManager em;
 
@@ -83,16 +95,62 @@ public class UserRepository {
                 .getResultList();
     }
 
-    public List<User> findAllWithProfiles() {
-        return em.createQuery(
-                "SELECT DISTINCT u FROM User u " +
+    /**
+     * Keyset page of the admin user list with profiles; null filters are ignored
+     */
+    public List<User> findAdminPage(Role role, Boolean active, LocalDateTime from, LocalDateTime to,
+            String emailPrefix, SortKey<User> sort, boolean ascending, Object afterValue, String afterId,
+            int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "SELECT u FROM User u " +
                         "LEFT JOIN FETCH u.candidateProfile " +
                         "LEFT JOIN FETCH u.enterpriseProfile " +
-                        "ORDER BY u.createdAt DESC",
-                User.class)
+                        "WHERE 1 = 1");
+        appendAdminFilters(jpql, params, role, active, from, to, emailPrefix);
+        AdminQueries.appendAfter(jpql, params, sort.getPath(), "u.id", ascending, afterValue, afterId);
+        AdminQueries.appendOrderBy(jpql, sort.getPath(), "u.id", ascending);
+
+        return AdminQueries.bind(em.createQuery(jpql.toString(), User.class), params)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
+    /**
+     * Number of users matching the admin filters, counting at most cap + 1
+     */
+    public long countAdmin(Role role, Boolean active, LocalDateTime from, LocalDateTime to, String emailPrefix,
+            int cap) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT u.id FROM User u WHERE 1 = 1");
+        appendAdminFilters(jpql, params, role, active, from, to, emailPrefix);
+        return AdminQueries.countUpTo(AdminQueries.bind(em.createQuery(jpql.toString(), String.class), params), cap);
+    }
+
+    private void appendAdminFilters(StringBuilder jpql, Map<String, Object> params, Role role, Boolean active,
+            LocalDateTime from, LocalDateTime to, String emailPrefix) {
+        if (role != null) {
+            jpql.append(" AND u.role = :role");
+            params.put("role", role);
+        }
+        if (active != null) {
+            jpql.append(" AND u.isActive = :active");
+            params.put("active", active);
+        }
+        if (from != null) {
+            jpql.append(" AND u.createdAt >= :from");
+            params.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND u.createdAt < :to");
+            params.put("to", to);
+        }
+        if (emailPrefix != null) {
+            jpql.append(" AND u.email LIKE :email ESCAPE '!'");
+            params.put("email", AdminQueries.startsWith(emailPrefix));
+        }
+    }
+
     public void delete(User user) {
         em.remove(em.contains(user) ? user : em.merge(user));
     }
@@ -101,6 +159,29 @@ public class UserRepository {
         findById(id).ifPresent(this::delete);
     }
 
+    /**
+     * Ids of deactivated users with the time they were last updated
+     */
+    public List<Object[]> findInactiveUsers() {
+        return em.createQuery(
+                "SELECT u.id, u.updatedAt FROM User u WHERE u.isActive = false", Object[].class)
+                .getResultList();
+    }
+
+    /**
+     * Store the photo variants, unless the photo was replaced while they were generated
+     */
+    public boolean updatePhotoVariants(String userId, String sourceUrl, String smallUrl, String mediumUrl) {
+        // Dirty-checked rather than a bulk update, which would evict the whole cache region
+        User user = em.find(User.class, userId, LockModeType.PESSIMISTIC_WRITE);
+        if (user == null || !sourceUrl.equals(user.getPhotoUrl())) {
+            return false;
+        }
+        user.setPhotoSmallUrl(smallUrl);
+        user.setPhotoMediumUrl(mediumUrl);
+        return true;
+    }
+
     public boolean existsByEmail(String email) {
         Long count = em.createQuery(
                 "SELECT COUNT(u) FROM User u WHERE u.email = :email", Long.class)
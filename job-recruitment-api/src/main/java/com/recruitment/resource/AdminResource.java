@@ -1,15 +1,20 @@
 package com.recruitment.resource;
 
+import com.recruitment.dto.request.AdminListQuery;
 import com.recruitment.dto.request.UserStatusRequest;
-import com.recruitment.dto.response.ApplicationResponse;
-import com.recruitment.dto.response.InterviewResponse;
-import com.recruitment.dto.response.JobResponse;
+import com.recruitment.dto.response.AdminPageResponse;
 import com.recruitment.dto.response.UserResponse;
+import com.recruitment.enums.CounterType;
 import com.recruitment.security.Secured;
 import com.recruitment.security.RolesAllowed;
 import com.recruitment.service.ApplicationService;
+import com.recruitment.service.EntityCacheMetrics;
 import com.recruitment.service.InterviewService;
 import com.recruitment.service.JobService;
+import com.recruitment.service.NotificationDispatcher;
+import com.recruitment.service.NotificationStreamService;
+import com.recruitment.service.PlatformCounterService;
+import com.recruitment.service.RescoringService;
 import com.recruitment.service.UserService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -17,6 +22,7 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -43,34 +49,67 @@ public class AdminResource {
     @Inject
     private InterviewService interviewService;
 
+    @Inject
+    private RescoringService rescoringService;
+
+    @Inject
+    private NotificationDispatcher notificationDispatcher;
+
+    @Inject
+    private NotificationStreamService notificationStreamService;
+
+    @Inject
+    private EntityCacheMetrics entityCacheMetrics;
+
+    @Inject
+    private PlatformCounterService platformCounterService;
+
     // ===== Dashboard =====
 
     @GET
     @Path("/dashboard")
     public Response getDashboard() {
-        long totalUsers = userService.getUserCount();
-        long candidateCount = userService.getCandidateCount();
-        long enterpriseCount = userService.getEnterpriseCount();
-        long jobCount = jobService.getJobCount();
-        long applicationCount = applicationService.getApplicationCount();
+        // Maintained counters rather than COUNT(*) over each table
+        Map<CounterType, Long> counts = platformCounterService.getCounts();
         List<UserResponse> recentUsers = userService.getRecentUsers(5);
 
         return Response.ok(Map.of(
-                "totalUsers", totalUsers,
-                "totalCandidates", candidateCount,
-                "totalEnterprises", enterpriseCount,
-                "activeJobs", jobCount,
-                "totalApplications", applicationCount,
+                "totalUsers", counts.getOrDefault(CounterType.USERS, 0L),
+                "totalCandidates", counts.getOrDefault(CounterType.CANDIDATES, 0L),
+                "totalEnterprises", counts.getOrDefault(CounterType.ENTERPRISES, 0L),
+                "activeJobs", counts.getOrDefault(CounterType.JOB_OFFERS, 0L),
+                "totalApplications", counts.getOrDefault(CounterType.APPLICATIONS, 0L),
                 "recentUsers", recentUsers)).build();
     }
 
+    /**
+     * Recount the dashboard totals exactly, in parallel, and store them
+     */
+    @POST
+    @Path("/counters/refresh")
+    public Response refreshCounters() {
+        return Response.ok(Map.of("counters", platformCounterService.reconcile())).build();
+    }
+
+    // ===== Metrics =====
+
+    @GET
+    @Path("/metrics")
+    public Response getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("rescoring", rescoringService.getProgress());
+        metrics.put("notifications", notificationDispatcher.getMetrics());
+        metrics.put("notificationStreams", notificationStreamService.getMetrics());
+        metrics.put("entityCache", entityCacheMetrics.getMetrics());
+        return Response.ok(metrics).build();
+    }
+
     // ===== Users =====
 
     @GET
     @Path("/users")
-    public Response getUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        return Response.ok(Map.of("users", users)).build();
+    public Response getUsers(@BeanParam AdminListQuery query) {
+        return Response.ok(page("users", userService.getUsersPage(query))).build();
     }
 
     @GET
@@ -98,9 +137,8 @@ public class AdminResource {
 
     @GET
     @Path("/jobs")
-    public Response getJobs() {
-        List<JobResponse> jobs = jobService.getAllJobs();
-        return Response.ok(Map.of("jobs", jobs)).build();
+    public Response getJobs(@BeanParam AdminListQuery query) {
+        return Response.ok(page("jobs", jobService.getJobsPage(query))).build();
     }
 
     @DELETE
@@ -114,9 +152,8 @@ public class AdminResource {
 
     @GET
     @Path("/applications")
-    public Response getApplications() {
-        List<ApplicationResponse> applications = applicationService.getAllApplications();
-        return Response.ok(Map.of("applications", applications)).build();
+    public Response getApplications(@BeanParam AdminListQuery query) {
+        return Response.ok(page("applications", applicationService.getApplicationsPage(query))).build();
     }
 
     @PATCH
@@ -148,8 +185,19 @@ public class AdminResource {
 
     @GET
     @Path("/interviews")
-    public Response getInterviews() {
-        List<InterviewResponse> interviews = interviewService.getAllInterviews();
-        return Response.ok(Map.of("interviews", interviews)).build();
+    public Response getInterviews(@BeanParam AdminListQuery query) {
+        return Response.ok(page("interviews", interviewService.getInterviewsPage(query))).build();
+    }
+
+    /**
+     * Page body keeping the list under its usual key
+     */
+    private Map<String, Object> page(String key, AdminPageResponse<?> page) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(key, page.getItems());
+        body.put("nextCursor", page.getNextCursor());
+        body.put("total", page.getTotal());
+        body.put("totalCapped", page.isTotalCapped());
+        return body;
     }
 }
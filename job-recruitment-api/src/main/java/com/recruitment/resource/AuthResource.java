@@ -1,18 +1,30 @@
 package com.recruitment.resource;
 
 import com.recruitment.dto.request.LoginRequest;
+import com.recruitment.dto.request.RefreshRequest;
 import com.recruitment.dto.request.RegisterRequest;
 import com.recruitment.dto.response.AuthResponse;
+import com.recruitment.exception.ApiException;
+import com.recruitment.security.RateLimited;
 import com.recruitment.service.AuthService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
 /**
- * REST resource for authentication endpoints
+ * REST resource for authentication endpoints.
+ * Login and registration are answered asynchronously so that the request thread is
+ * released while the password is hashed.
  */
 @Path("/api/auth")
 @Produces(MediaType.APPLICATION_JSON)
@@ -20,6 +32,8 @@ import jakarta.ws.rs.core.Response;
 @RequestScoped
 public class AuthResource {
 
+    private static final long TIMEOUT_SECONDS = 30;
+
     @Inject
     private AuthService authService;
 
@@ -28,9 +42,10 @@ public class AuthResource {
      */
     @POST
     @Path("/register")
-    public Response register(@Valid RegisterRequest request) {
-        AuthResponse response = authService.register(request);
-        return Response.status(Response.Status.CREATED).entity(response).build();
+    @RateLimited("register")
+    public void register(@Valid RegisterRequest request, @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, authService.register(request),
+                response -> Response.status(Response.Status.CREATED).entity(response).build());
     }
 
     /**
@@ -38,8 +53,36 @@ public class AuthResource {
      */
     @POST
     @Path("/login")
-    public Response login(@Valid LoginRequest request) {
-        AuthResponse response = authService.login(request);
+    @RateLimited("login")
+    public void login(@Valid LoginRequest request, @Suspended AsyncResponse asyncResponse) {
+        resume(asyncResponse, authService.login(request),
+                response -> Response.ok(response).build());
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token
+     */
+    @POST
+    @Path("/refresh")
+    @RateLimited("refresh")
+    public Response refresh(@Valid RefreshRequest request) {
+        AuthResponse response = authService.refresh(request.getRefreshToken());
         return Response.ok(response).build();
     }
+
+    private <T> void resume(AsyncResponse asyncResponse, CompletionStage<T> result, Function<T, Response> onSuccess) {
+        asyncResponse.setTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        asyncResponse.setTimeoutHandler(timedOut -> timedOut.resume(
+                new ApiException("Server is busy, please try again later", 503)));
+
+        result.whenComplete((value, error) -> {
+            if (error == null) {
+                asyncResponse.resume(onSuccess.apply(value));
+            } else {
+                asyncResponse.resume(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            }
+        });
+    }
 }
@@ -6,6 +6,7 @@ import com.recruitment.security.Secured;
 import com.recruitment.security.RolesAllowed;
 import com.recruitment.security.UserPrincipal;
 import com.recruitment.service.ApplicationService;
+import com.recruitment.service.ProfileIdResolver;
 import com.recruitment.service.UserService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -35,13 +36,16 @@ public class CandidateResource {
     @Inject
     private UserService userService;
 
+    @Inject
+    private ProfileIdResolver profileIdResolver;
+
     // ===== Dashboard =====
 
     @GET
     @Path("/dashboard")
     public Response getDashboardStats(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        DashboardStatsResponse stats = userService.getCandidateDashboardStats(principal.getUserId());
+        DashboardStatsResponse stats = userService.getCandidateDashboardStats(profileIdResolver.candidateId(principal));
         return Response.ok(stats).build();
     }
 
@@ -51,7 +55,7 @@ public class CandidateResource {
     @Path("/applications")
     public Response getApplications(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        List<ApplicationResponse> applications = applicationService.getCandidateApplications(principal.getUserId());
+        List<ApplicationResponse> applications = applicationService.getCandidateApplications(profileIdResolver.candidateId(principal));
         return Response.ok(Map.of("applications", applications)).build();
     }
 }
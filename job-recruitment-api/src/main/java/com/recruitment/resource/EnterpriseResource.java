@@ -3,17 +3,21 @@ package com.recruitment.resource;
 import com.recruitment.dto.request.ApplicationStatusRequest;
 import com.recruitment.dto.request.InterviewRequest;
 import com.recruitment.dto.request.JobRequest;
+import com.recruitment.dto.request.ProfileUpdateRequest;
 import com.recruitment.dto.response.ApplicationResponse;
+import com.recruitment.dto.response.CandidateMatchResponse;
 import com.recruitment.dto.response.DashboardStatsResponse;
 import com.recruitment.dto.response.InterviewResponse;
 import com.recruitment.dto.response.JobResponse;
 import com.recruitment.repository.EnterpriseProfileRepository;
+import com.recruitment.security.RateLimited;
 import com.recruitment.security.Secured;
 import com.recruitment.security.RolesAllowed;
 import com.recruitment.security.UserPrincipal;
 import com.recruitment.service.ApplicationService;
 import com.recruitment.service.InterviewService;
 import com.recruitment.service.JobService;
+import com.recruitment.service.ProfileIdResolver;
 import com.recruitment.service.UserService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -53,13 +57,16 @@ public class EnterpriseResource {
     @Inject
     private EnterpriseProfileRepository enterpriseProfileRepository;
 
+    @Inject
+    private ProfileIdResolver profileIdResolver;
+
     // ===== Dashboard =====
 
     @GET
     @Path("/dashboard")
     public Response getDashboardStats(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        DashboardStatsResponse stats = userService.getEnterpriseDashboardStats(principal.getUserId());
+        DashboardStatsResponse stats = userService.getEnterpriseDashboardStats(profileIdResolver.enterpriseId(principal));
         return Response.ok(stats).build();
     }
 
@@ -69,7 +76,7 @@ public class EnterpriseResource {
     @Path("/profile")
     public Response getProfile(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        var enterprise = enterpriseProfileRepository.findByUserId(principal.getUserId());
+        var enterprise = enterpriseProfileRepository.findById(profileIdResolver.enterpriseId(principal));
         if (enterprise.isEmpty()) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(Map.of("error", "Enterprise profile not found")).build();
@@ -89,30 +96,20 @@ public class EnterpriseResource {
     @Path("/profile")
     public Response updateProfile(Map<String, String> request, @Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        var enterprise = enterpriseProfileRepository.findByUserId(principal.getUserId());
+        var enterprise = enterpriseProfileRepository.findById(profileIdResolver.enterpriseId(principal));
         if (enterprise.isEmpty()) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(Map.of("error", "Enterprise profile not found")).build();
         }
 
-        var profile = enterprise.get();
-        if (request.containsKey("companyName")) {
-            profile.setCompanyName(request.get("companyName"));
-        }
-        if (request.containsKey("description")) {
-            profile.setDescription(request.get("description"));
-        }
-        if (request.containsKey("industry")) {
-            profile.setIndustry(request.get("industry"));
-        }
-        if (request.containsKey("location")) {
-            profile.setLocation(request.get("location"));
-        }
-        if (request.containsKey("logoUrl")) {
-            profile.setLogoUrl(request.get("logoUrl"));
-        }
-
-        enterpriseProfileRepository.save(profile);
+        // Same write path as /api/profile: cached entities are updated and logo variants regenerated
+        ProfileUpdateRequest update = new ProfileUpdateRequest();
+        update.setCompanyName(request.get("companyName"));
+        update.setDescription(request.get("description"));
+        update.setIndustry(request.get("industry"));
+        update.setLocation(request.get("location"));
+        update.setLogoUrl(request.get("logoUrl"));
+        userService.updateProfile(principal.getUserId(), update);
         return Response.ok(Map.of("success", true)).build();
     }
 
@@ -122,20 +119,22 @@ public class EnterpriseResource {
     @Path("/jobs")
     public Response getJobs(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        List<JobResponse> jobs = jobService.getEnterpriseJobs(principal.getUserId());
+        List<JobResponse> jobs = jobService.getEnterpriseJobs(profileIdResolver.enterpriseId(principal));
         return Response.ok(Map.of("jobs", jobs)).build();
     }
 
     @POST
     @Path("/jobs")
+    @RateLimited("job-write")
     public Response createJob(@Valid JobRequest request, @Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        JobResponse job = jobService.createJob(principal.getUserId(), request);
+        JobResponse job = jobService.createJob(profileIdResolver.enterpriseId(principal), request);
         return Response.status(Response.Status.CREATED).entity(Map.of("success", true, "jobId", job.getId())).build();
     }
 
     @PUT
     @Path("/jobs/{id}")
+    @RateLimited("job-write")
     public Response updateJob(@PathParam("id") String id, @Valid JobRequest request) {
         JobResponse job = jobService.updateJob(id, request);
         return Response.ok(Map.of("success", true)).build();
@@ -148,6 +147,15 @@ public class EnterpriseResource {
         return Response.ok(Map.of("success", true)).build();
     }
 
+    @GET
+    @Path("/jobs/{id}/top-candidates")
+    public Response getTopCandidates(@PathParam("id") String id, @QueryParam("limit") Integer limit,
+            @Context SecurityContext securityContext) {
+        UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
+        List<CandidateMatchResponse> candidates = jobService.getTopCandidates(profileIdResolver.enterpriseId(principal), id, limit);
+        return Response.ok(Map.of("candidates", candidates)).build();
+    }
+
     @PATCH
     @Path("/jobs/{id}/status")
     public Response toggleJobStatus(@PathParam("id") String id, Map<String, String> request) {
@@ -162,13 +170,8 @@ public class EnterpriseResource {
     @Path("/applications")
     public Response getApplications(@Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        var enterprise = enterpriseProfileRepository.findByUserId(principal.getUserId());
-        if (enterprise.isEmpty()) {
-            return Response.status(Response.Status.NOT_FOUND)
-                    .entity(Map.of("error", "Enterprise not found")).build();
-        }
-
-        List<ApplicationResponse> applications = applicationService.getEnterpriseApplications(enterprise.get().getId());
+        List<ApplicationResponse> applications = applicationService.getEnterpriseApplications(
+                profileIdResolver.enterpriseId(principal));
         return Response.ok(Map.of("applications", applications)).build();
     }
 
@@ -0,0 +1,190 @@
+package com.recruitment.resource;
+
+import com.recruitment.exception.ApiException;
+import com.recruitment.service.FileStorageService;
+import com.recruitment.service.FileStorageService.StoredFile;
+import com.recruitment.service.UploadCategory;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+/**
+ * REST resource serving uploaded files.
+ * Names are content hashes (or random ids for older uploads) that never change meaning,
+ * so responses are cacheable forever; files are streamed from disk in ranges.
+ * CVs hold personal data: only the browser may cache them, never a shared cache.
+ */
+@Path("/api/files")
+@RequestScoped
+public class FileResource {
+
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+    private static final String CACHE_PRIVATE = "private, max-age=31536000, immutable";
+
+    @Inject
+    private FileStorageService fileStorageService;
+
+    /**
+     * Get a content-addressed file
+     */
+    @GET
+    @Path("/{name: [0-9a-f]{64}\\.[a-z]+}")
+    public Response getFile(
+            @PathParam("name") String name,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam("Range") String range,
+            @HeaderParam("If-Range") String ifRange) {
+
+        return serve(fileStorageService.findBlob(name), ifNoneMatch, range, ifRange);
+    }
+
+    /**
+     * Get a file uploaded before content addressing (e.g. /photos/{ownerId}_{uuid}.jpg)
+     */
+    @GET
+    @Path("/{directory: photos|cvs|logos}/{name: [A-Za-z0-9_-]+\\.[a-z]+}")
+    public Response getLegacyFile(
+            @PathParam("directory") String directory,
+            @PathParam("name") String name,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam("Range") String range,
+            @HeaderParam("If-Range") String ifRange) {
+
+        StoredFile file = fileStorageService.findLegacy(UploadCategory.fromDirectory(directory), name);
+        return serve(file, ifNoneMatch, range, ifRange);
+    }
+
+    private Response serve(StoredFile file, String ifNoneMatch, String range, String ifRange) {
+        if (file == null) {
+            throw new ApiException("File not found", 404);
+        }
+
+        String cacheControl = UploadCategory.CV.accepts(file.getType()) ? CACHE_PRIVATE : CACHE_FOREVER;
+        if (matches(ifNoneMatch, file.getEtag())) {
+            return Response.notModified()
+                    .header(HttpHeaders.ETAG, file.getEtag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+
+        long size = file.getSize();
+        long start = 0;
+        long end = size - 1;
+        boolean partial = false;
+
+        // A stale If-Range means the client's copy changed: send the whole file
+        if (range != null && (ifRange == null || ifRange.equals(file.getEtag()))) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header("Content-Range", "bytes */" + size)
+                        .build();
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                partial = true;
+            }
+        }
+
+        long length = end - start + 1;
+        Response.ResponseBuilder builder = partial
+                ? Response.status(Response.Status.PARTIAL_CONTENT)
+                        .header("Content-Range", "bytes " + start + "-" + end + "/" + size)
+                : Response.ok();
+
+        return builder.entity(transfer(file, start, length))
+                .type(file.getType().getMimeType())
+                .header(HttpHeaders.CONTENT_LENGTH, length)
+                .header(HttpHeaders.ETAG, file.getEtag())
+                .header(HttpHeaders.LAST_MODIFIED, new Date(file.getLastModified()))
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .header("Accept-Ranges", "bytes")
+                .build();
+    }
+
+    /**
+     * Copy a slice of the file straight from its channel to the response, without
+     * reading it into a byte array
+     */
+    private StreamingOutput transfer(StoredFile file, long start, long length) {
+        return output -> {
+            try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(output);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long sent = channel.transferTo(position, remaining, target);
+                    if (sent <= 0) {
+                        break;
+                    }
+                    position += sent;
+                    remaining -= sent;
+                }
+            }
+        };
+    }
+
+    /**
+     * Parse a single "bytes=" range. Returns {start, end}, an empty array to ignore the
+     * header (unsupported unit or multiple ranges) or null when it cannot be satisfied.
+     */
+    private long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || size == 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+                if (start >= size || start > end) {
+                    return null;
+                }
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // Weak comparison, as required for If-None-Match
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,13 +2,16 @@ package com.recruitment.resource;
 
 import com.recruitment.dto.request.ApplyRequest;
 import com.recruitment.dto.response.ApplicationResponse;
+import com.recruitment.dto.response.JobPageResponse;
 import com.recruitment.dto.response.JobResponse;
-import com.recruitment.repository.CandidateProfileRepository;
+import com.recruitment.enums.Role;
+import com.recruitment.security.RateLimited;
 import com.recruitment.security.Secured;
 import com.recruitment.security.RolesAllowed;
 import com.recruitment.security.UserPrincipal;
 import com.recruitment.service.ApplicationService;
 import com.recruitment.service.JobService;
+import com.recruitment.service.ProfileIdResolver;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -18,7 +21,6 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,34 +39,30 @@ public class JobResource {
     private ApplicationService applicationService;
 
     @Inject
-    private CandidateProfileRepository candidateProfileRepository;
+    private ProfileIdResolver profileIdResolver;
 
     /**
-     * Get all active jobs with optional filters
+     * Get a page of active jobs with optional filters
      */
     @GET
     public Response getJobs(
             @QueryParam("type") String type,
             @QueryParam("location") String location,
             @QueryParam("search") String search,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") Integer limit,
             @Context SecurityContext securityContext) {
 
         String candidateId = null;
         if (securityContext.getUserPrincipal() != null) {
             UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-            if ("CANDIDATE".equals(principal.getRole())) {
-                candidateProfileRepository.findByUserId(principal.getUserId())
-                        .ifPresent(profile -> {
-                        });
-                var profile = candidateProfileRepository.findByUserId(principal.getUserId());
-                if (profile.isPresent()) {
-                    candidateId = profile.get().getId();
-                }
+            if (principal.getRoleType() == Role.CANDIDATE) {
+                candidateId = profileIdResolver.candidateId(principal);
             }
         }
 
-        List<JobResponse> jobs = jobService.getActiveJobs(type, location, search, candidateId);
-        return Response.ok(Map.of("jobs", jobs)).build();
+        JobPageResponse page = jobService.getActiveJobs(type, location, search, candidateId, cursor, limit);
+        return Response.ok(page).build();
     }
 
     /**
@@ -84,9 +82,10 @@ public class JobResource {
     @Path("/apply")
     @Secured
     @RolesAllowed("CANDIDATE")
+    @RateLimited("apply")
     public Response applyToJob(@Valid ApplyRequest request, @Context SecurityContext securityContext) {
         UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-        ApplicationResponse result = applicationService.apply(principal.getUserId(), request.getJobId());
+        ApplicationResponse result = applicationService.apply(profileIdResolver.candidateId(principal), request.getJobId());
         return Response.ok(Map.of("success", true, "matchingScore", result.getMatchingScore())).build();
     }
 }
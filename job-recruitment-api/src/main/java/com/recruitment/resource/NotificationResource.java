@@ -4,13 +4,17 @@ import com.recruitment.dto.response.NotificationResponse;
 import com.recruitment.security.Secured;
 import com.recruitment.security.UserPrincipal;
 import com.recruitment.service.NotificationService;
+import com.recruitment.service.NotificationStreamService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,9 @@ public class NotificationResource {
     @Inject
     private NotificationService notificationService;
 
+    @Inject
+    private NotificationStreamService notificationStreamService;
+
     /**
      * Get notifications for current user
      */
@@ -39,13 +46,29 @@ public class NotificationResource {
         return Response.ok(Map.of("notifications", notifications, "unreadCount", unreadCount)).build();
     }
 
+    /**
+     * Stream new notifications and unread count changes (Server-Sent Events).
+     * The request thread is released immediately; events are written as they happen.
+     */
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void stream(@Context SecurityContext securityContext,
+            @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+            @Context SseEventSink sink,
+            @Context Sse sse) {
+        UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
+        notificationStreamService.open(principal.getUserId(), sink, sse, lastEventId);
+    }
+
     /**
      * Mark notification as read
      */
     @PUT
     @Path("/{id}/read")
-    public Response markAsRead(@PathParam("id") String id) {
-        notificationService.markAsRead(id);
+    public Response markAsRead(@PathParam("id") String id, @Context SecurityContext securityContext) {
+        UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
+        notificationService.markAsRead(principal.getUserId(), id);
         return Response.ok(Map.of("success", true)).build();
     }
 
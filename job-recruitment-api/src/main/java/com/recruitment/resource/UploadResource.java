@@ -1,7 +1,10 @@
 package com.recruitment.resource;
 
+import com.recruitment.security.RateLimited;
 import com.recruitment.security.Secured;
 import com.recruitment.security.UserPrincipal;
+import com.recruitment.service.FileStorageService;
+import com.recruitment.service.UploadCategory;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
@@ -9,14 +12,9 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * REST resource for file upload endpoints
@@ -24,11 +22,11 @@ import java.util.UUID;
 @Path("/api/upload")
 @RequestScoped
 @Secured
+@RateLimited("upload")
 public class UploadResource {
 
     @Inject
-    @ConfigProperty(name = "upload.path", defaultValue = "/uploads")
-    private String uploadPath;
+    private FileStorageService fileStorageService;
 
     /**
      * Upload photo
@@ -42,15 +40,8 @@ public class UploadResource {
             @FormParam("fileName") String fileName,
             @Context SecurityContext securityContext) {
 
-        try {
-            UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-            String savedPath = saveFile(fileStream, fileName, "photos", principal.getUserId());
-            return Response.ok(Map.of("success", true, "url", savedPath)).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(Map.of("error", "Failed to upload file"))
-                    .build();
-        }
+        String savedPath = fileStorageService.store(fileStream, UploadCategory.PHOTO);
+        return Response.ok(Map.of("success", true, "url", savedPath)).build();
     }
 
     /**
@@ -65,21 +56,15 @@ public class UploadResource {
             @FormParam("fileName") String fileName,
             @Context SecurityContext securityContext) {
 
-        try {
-            UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-            if (!"CANDIDATE".equals(principal.getRole())) {
-                return Response.status(Response.Status.FORBIDDEN)
-                        .entity(Map.of("error", "Only candidates can upload CVs"))
-                        .build();
-            }
-
-            String savedPath = saveFile(fileStream, fileName, "cvs", principal.getUserId());
-            return Response.ok(Map.of("success", true, "url", savedPath)).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(Map.of("error", "Failed to upload file"))
+        UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
+        if (!"CANDIDATE".equals(principal.getRole())) {
+            return Response.status(Response.Status.FORBIDDEN)
+                    .entity(Map.of("error", "Only candidates can upload CVs"))
                     .build();
         }
+
+        String savedPath = fileStorageService.store(fileStream, UploadCategory.CV);
+        return Response.ok(Map.of("success", true, "url", savedPath)).build();
     }
 
     /**
@@ -94,42 +79,14 @@ public class UploadResource {
             @FormParam("fileName") String fileName,
             @Context SecurityContext securityContext) {
 
-        try {
-            UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
-            if (!"ENTERPRISE".equals(principal.getRole())) {
-                return Response.status(Response.Status.FORBIDDEN)
-                        .entity(Map.of("error", "Only enterprises can upload logos"))
-                        .build();
-            }
-
-            String savedPath = saveFile(fileStream, fileName, "logos", principal.getUserId());
-            return Response.ok(Map.of("success", true, "url", savedPath)).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(Map.of("error", "Failed to upload file"))
+        UserPrincipal principal = (UserPrincipal) securityContext.getUserPrincipal();
+        if (!"ENTERPRISE".equals(principal.getRole())) {
+            return Response.status(Response.Status.FORBIDDEN)
+                    .entity(Map.of("error", "Only enterprises can upload logos"))
                     .build();
         }
-    }
-
-    private String saveFile(InputStream fileStream, String originalFileName, String subDir, String userId)
-            throws IOException {
-        // Create directory if it doesn't exist
-        java.nio.file.Path dirPath = Paths.get(uploadPath, subDir);
-        Files.createDirectories(dirPath);
-
-        // Generate unique filename
-        String extension = "";
-        if (originalFileName != null && originalFileName.contains(".")) {
-            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        }
-        String newFileName = userId + "_" + UUID.randomUUID().toString() + extension;
-
-        java.nio.file.Path filePath = dirPath.resolve(newFileName);
-
-        // Save file
-        Files.copy(fileStream, filePath, StandardCopyOption.REPLACE_EXISTING);
 
-        // Return relative path
-        return "/" + subDir + "/" + newFileName;
+        String savedPath = fileStorageService.store(fileStream, UploadCategory.LOGO);
+        return Response.ok(Map.of("success", true, "url", savedPath)).build();
     }
 }
@@ -0,0 +1,16 @@
+package com.recruitment.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to rate limit an endpoint.
+ * The value names the limit configured as ratelimit.&lt;name&gt;.per-minute and ratelimit.&lt;name&gt;.burst
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RateLimited {
+    String value();
+}
@@ -1,5 +1,7 @@
 package com.recruitment.security;
 
+import com.recruitment.enums.Role;
+
 import java.security.Principal;
 
 /**
@@ -10,11 +12,21 @@ public class UserPrincipal implements Principal {
     private final String userId;
     private final String email;
     private final String role;
+    private final Role roleType;
+    private final String profileId;
+    private final long issuedAt;
 
     public UserPrincipal(String userId, String email, String role) {
+        this(userId, email, role, null, 0L);
+    }
+
+    public UserPrincipal(String userId, String email, String role, String profileId, long issuedAt) {
         this.userId = userId;
         this.email = email;
         this.role = role;
+        this.roleType = parseRole(role);
+        this.profileId = profileId;
+        this.issuedAt = issuedAt;
     }
 
     @Override
@@ -33,4 +45,36 @@ public class UserPrincipal implements Principal {
     public String getRole() {
         return role;
     }
+
+    /**
+     * Role as an enum, or null if the token carried an unknown role
+     */
+    public Role getRoleType() {
+        return roleType;
+    }
+
+    /**
+     * Candidate or enterprise profile id, or null for admins and tokens issued without it
+     */
+    public String getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * Issue time of the token (epoch millis), 0 if unknown
+     */
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    private static Role parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
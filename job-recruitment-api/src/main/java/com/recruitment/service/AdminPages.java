@@ -0,0 +1,94 @@
+package com.recruitment.service;
+
+import com.recruitment.dto.request.AdminListQuery;
+import com.recruitment.dto.request.PageCursor;
+import com.recruitment.dto.response.AdminPageResponse;
+import com.recruitment.exception.ApiException;
+import com.recruitment.repository.SortKey;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset paging shared by the admin list endpoints.
+ * The cursor holds the sort key, the id of the last row and its sort value (last, as it may
+ * be free text), so a cursor from one sort is rejected by another.
+ */
+final class AdminPages {
+
+    // Filtered totals stop counting here
+    static final int TOTAL_CAP = 1000;
+
+    @FunctionalInterface
+    interface Loader<R> {
+        List<R> load(Object afterValue, String afterId, int limit);
+    }
+
+    private AdminPages() {
+    }
+
+    /**
+     * Resolve the "sort" query parameter against a whitelist
+     */
+    static <R> SortKey<R> sortKey(List<SortKey<R>> keys, String name, SortKey<R> defaultKey) {
+        if (name == null || name.isEmpty()) {
+            return defaultKey;
+        }
+        for (SortKey<R> key : keys) {
+            if (key.getName().equals(name)) {
+                return key;
+            }
+        }
+        throw new ApiException("Invalid sort: " + name, 400);
+    }
+
+    /**
+     * Load one page.
+     * Totals come from maintainedTotal for unfiltered lists when one is available, otherwise
+     * from cappedCount, which must count at most TOTAL_CAP + 1 rows.
+     */
+    static <R, T> AdminPageResponse<T> page(AdminListQuery query, SortKey<R> sort, Function<R, String> idOf,
+            Loader<R> loader, Function<R, T> mapper, LongSupplier cappedCount, LongSupplier maintainedTotal) {
+        Object afterValue = null;
+        String afterId = null;
+        PageCursor after = PageCursor.decode(query.getCursor(), 3);
+        if (after != null) {
+            if (!after.get(0).equals(sort.getName())) {
+                throw new ApiException("Invalid cursor", 400);
+            }
+            try {
+                afterValue = sort.parseCursorValue(after.get(2));
+            } catch (RuntimeException e) {
+                throw new ApiException("Invalid cursor", 400);
+            }
+            afterId = after.get(1);
+        }
+
+        // Fetch one extra row to know whether a next page exists
+        int pageSize = query.getPageSize();
+        List<R> rows = loader.load(afterValue, afterId, pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            R last = rows.get(pageSize - 1);
+            nextCursor = PageCursor.of(sort.getName(), idOf.apply(last), sort.cursorValue(last)).encode();
+        }
+
+        Long total = null;
+        boolean capped = false;
+        if (after == null) {
+            if (maintainedTotal != null && query.isUnfiltered()) {
+                total = maintainedTotal.getAsLong();
+            } else {
+                long counted = cappedCount.getAsLong();
+                capped = counted > TOTAL_CAP;
+                total = Math.min(counted, TOTAL_CAP);
+            }
+        }
+
+        List<T> items = rows.stream().map(mapper).collect(Collectors.toList());
+        return new AdminPageResponse<>(items, nextCursor, total, capped);
+    }
+}
@@ -1,19 +1,28 @@
 package com.recruitment.service;
 
+import com.recruitment.dto.request.AdminListQuery;
+import com.recruitment.dto.response.AdminPageResponse;
 import com.recruitment.dto.response.ApplicationResponse;
 import com.recruitment.entity.Application;
 import com.recruitment.entity.CandidateProfile;
 import com.recruitment.entity.JobOffer;
 import com.recruitment.enums.ApplicationStatus;
+import com.recruitment.enums.CounterType;
+import com.recruitment.event.ApplicationChangedEvent;
+import com.recruitment.event.CounterChangedEvent;
 import com.recruitment.exception.ApiException;
 import com.recruitment.repository.ApplicationRepository;
 import com.recruitment.repository.CandidateProfileRepository;
 import com.recruitment.repository.JobOfferRepository;
+import com.recruitment.repository.SortKey;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,20 +46,22 @@ public class ApplicationService {
         @Inject
         private NotificationService notificationService;
 
-        /**
-         * Get total application count
-         */
-        public long getApplicationCount() {
-                return applicationRepository.count();
-        }
+        @Inject
+        private Event<ApplicationChangedEvent> applicationChangedEvent;
+
+        @Inject
+        private Event<CounterChangedEvent> counterChangedEvent;
+
+        @Inject
+        private PlatformCounterService platformCounterService;
 
         /**
          * Apply to a job
          */
         @Transactional
-        public ApplicationResponse apply(String userId, String jobId) {
+        public ApplicationResponse apply(String candidateId, String jobId) {
                 // Get candidate profile
-                CandidateProfile candidate = candidateProfileRepository.findByUserId(userId)
+                CandidateProfile candidate = candidateProfileRepository.findById(candidateId)
                                 .orElseThrow(() -> new ApiException("Candidate profile not found", 404));
 
                 // Check if already applied
@@ -70,6 +81,9 @@ public class ApplicationService {
                 Application application = new Application(candidate, job);
                 application.setMatchingScore(matchingScore);
                 application = applicationRepository.save(application);
+                jobOfferRepository.adjustApplicationCount(jobId, 1);
+                applicationChangedEvent.fire(new ApplicationChangedEvent(candidate.getId(), job.getEnterprise().getId()));
+                counterChangedEvent.fire(new CounterChangedEvent(CounterType.APPLICATIONS, 1));
 
                 // Notify enterprise
                 notificationService.createNotification(
@@ -83,21 +97,16 @@ public class ApplicationService {
         /**
          * Get applications for a candidate
          */
-        public List<ApplicationResponse> getCandidateApplications(String userId) {
-                CandidateProfile candidate = candidateProfileRepository.findByUserId(userId)
-                                .orElseThrow(() -> new ApiException("Candidate profile not found", 404));
-
-                return applicationRepository.findByCandidateId(candidate.getId()).stream()
-                                .map(app -> ApplicationResponse.fromEntity(app, false))
-                                .collect(Collectors.toList());
+        public List<ApplicationResponse> getCandidateApplications(String candidateId) {
+                return applicationRepository.listByCandidateId(candidateId);
         }
 
         /**
          * Get applications for an enterprise (with anonymous masking)
          */
         public List<ApplicationResponse> getEnterpriseApplications(String enterpriseId) {
-                return applicationRepository.findByEnterpriseId(enterpriseId).stream()
-                                .map(app -> ApplicationResponse.fromEntity(app, true))
+                return applicationRepository.listByEnterpriseId(enterpriseId).stream()
+                                .map(ApplicationResponse::hideAnonymousCandidate)
                                 .collect(Collectors.toList());
         }
 
@@ -105,18 +114,28 @@ public class ApplicationService {
          * Get applications for a specific job
          */
         public List<ApplicationResponse> getJobApplications(String jobId) {
-                return applicationRepository.findByJobId(jobId).stream()
-                                .map(app -> ApplicationResponse.fromEntity(app, true))
+                return applicationRepository.listByJobId(jobId).stream()
+                                .map(ApplicationResponse::hideAnonymousCandidate)
                                 .collect(Collectors.toList());
         }
 
         /**
-         * Get all applications (admin)
+         * Get a page of applications (admin)
          */
-        public List<ApplicationResponse> getAllApplications() {
-                return applicationRepository.findAll().stream()
-                                .map(app -> ApplicationResponse.fromEntity(app, false))
-                                .collect(Collectors.toList());
+        public AdminPageResponse<ApplicationResponse> getApplicationsPage(AdminListQuery query) {
+                ApplicationStatus status = AdminListQuery.parseEnum(ApplicationStatus.class, query.getStatus(), "status");
+                SortKey<ApplicationResponse> sort = AdminPages.sortKey(ApplicationRepository.ADMIN_SORTS,
+                                query.getSort(), ApplicationRepository.SORT_CREATED_AT);
+                LocalDateTime from = query.getFromTime();
+                LocalDateTime to = query.getToTime();
+                String email = query.getEmailPrefix();
+
+                return AdminPages.page(query, sort, ApplicationResponse::getId,
+                                (afterValue, afterId, limit) -> applicationRepository.listAdminPage(status, from, to,
+                                                email, sort, query.isAscending(), afterValue, afterId, limit),
+                                Function.identity(),
+                                () -> applicationRepository.countAdmin(status, from, to, email, AdminPages.TOTAL_CAP),
+                                () -> platformCounterService.getCount(CounterType.APPLICATIONS));
         }
 
         /**
@@ -129,6 +148,8 @@ public class ApplicationService {
 
                 application.setStatus(status);
                 applicationRepository.save(application);
+                applicationChangedEvent.fire(new ApplicationChangedEvent(
+                                application.getCandidate().getId(), application.getJobOffer().getEnterprise().getId()));
 
                 // Notify candidate
                 String statusText = status == ApplicationStatus.ACCEPTED ? "accepted" : "rejected";
@@ -157,6 +178,8 @@ public class ApplicationService {
 
                 application.setAnonymous(isAnonymous);
                 applicationRepository.save(application);
+                applicationChangedEvent.fire(new ApplicationChangedEvent(
+                                application.getCandidate().getId(), application.getJobOffer().getEnterprise().getId()));
         }
 
         /**
@@ -167,6 +190,12 @@ public class ApplicationService {
                 Application application = applicationRepository.findById(applicationId)
                                 .orElseThrow(() -> new ApiException("Application not found", 404));
 
+                String jobId = application.getJobOffer().getId();
+                ApplicationChangedEvent changed = new ApplicationChangedEvent(
+                                application.getCandidate().getId(), application.getJobOffer().getEnterprise().getId());
                 applicationRepository.delete(application);
+                jobOfferRepository.adjustApplicationCount(jobId, -1);
+                applicationChangedEvent.fire(changed);
+                counterChangedEvent.fire(new CounterChangedEvent(CounterType.APPLICATIONS, -1));
         }
 }
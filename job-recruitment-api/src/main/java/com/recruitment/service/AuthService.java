@@ -3,15 +3,16 @@ package com.recruitment.service;
 import com.recruitment.dto.request.LoginRequest;
 import com.recruitment.dto.request.RegisterRequest;
 import com.recruitment.dto.response.AuthResponse;
-import com.recruitment.entity.CandidateProfile;
-import com.recruitment.entity.EnterpriseProfile;
 import com.recruitment.entity.User;
-import com.recruitment.enums.Role;
 import com.recruitment.exception.ApiException;
 import com.recruitment.repository.UserRepository;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Service for authentication operations
@@ -28,66 +29,53 @@ public class AuthService {
     @Inject
     private JwtTokenService jwtTokenService;
 
+    @Inject
+    private RefreshTokenService refreshTokenService;
+
+    @Inject
+    private UserService userService;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
     /**
-     * Register a new user
+     * Register a new user.
+     * The password is hashed on the hashing pool and the user is saved, in one transaction
+     * with its refresh token, on a managed executor.
      */
-    @Transactional
-    public AuthResponse register(RegisterRequest request) {
+    public CompletionStage<AuthResponse> register(RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
-            throw new ApiException("Email already registered", 400);
+            return CompletableFuture.failedFuture(new ApiException("Email already registered", 400));
         }
 
         // Hash password
-        String hashedPassword = passwordService.hashPassword(request.getPassword());
-
-        // Create user
-        User user = new User();
-        user.setEmail(request.getEmail());
-        user.setPassword(hashedPassword);
-        user.setRole(request.getRole());
-
-        // Create profile based on role
-        if (request.getRole() == Role.CANDIDATE) {
-            CandidateProfile profile = new CandidateProfile();
-            profile.setFirstName(request.getFirstName());
-            profile.setLastName(request.getLastName());
-            profile.setSkills(request.getSkills() != null ? request.getSkills() : "[]");
-            profile.setBio(request.getBio());
-            profile.setPhone(request.getPhone());
-            profile.setAddress(request.getAddress());
-            user.setCandidateProfile(profile);
-        } else if (request.getRole() == Role.ENTERPRISE) {
-            EnterpriseProfile profile = new EnterpriseProfile();
-            profile.setCompanyName(request.getCompanyName() != null ? request.getCompanyName() : "Company Name");
-            profile.setDescription(request.getDescription());
-            profile.setIndustry(request.getIndustry());
-            profile.setLocation(request.getLocation());
-            user.setEnterpriseProfile(profile);
-        }
-
-        // Save user
-        user = userRepository.save(user);
-
-        // Generate token
-        String token = jwtTokenService.generateToken(user);
-
-        return AuthResponse.success(token, user.getId(), user.getEmail(), user.getRole());
+        return passwordService.hashPasswordAsync(request.getPassword())
+                .thenApplyAsync(hashedPassword -> userService.register(request, hashedPassword), managedExecutor);
     }
 
     /**
-     * Login a user
+     * Login a user.
+     * The password is verified on the hashing pool.
      */
-    public AuthResponse login(LoginRequest request) {
+    public CompletionStage<AuthResponse> login(LoginRequest request) {
         // Find user by email
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ApiException("Invalid email or password", 401));
-
-        // Verify password
-        if (!passwordService.verifyPassword(request.getPassword(), user.getPassword())) {
-            throw new ApiException("Invalid email or password", 401);
+        User user = userRepository.findByEmailWithProfiles(request.getEmail()).orElse(null);
+        if (user == null) {
+            return CompletableFuture.failedFuture(new ApiException("Invalid email or password", 401));
         }
 
+        // Verify password, then issue tokens on a managed executor
+        return passwordService.verifyPasswordAsync(request.getPassword(), user.getPassword())
+                .thenApplyAsync(matches -> {
+                    if (!matches) {
+                        throw new ApiException("Invalid email or password", 401);
+                    }
+                    return authenticated(user);
+                }, managedExecutor);
+    }
+
+    private AuthResponse authenticated(User user) {
         // Check if active
         if (!user.isActive()) {
             String reason = user.getDeactivationReason();
@@ -100,10 +88,15 @@ public class AuthService {
             }
         }
 
-        // Generate token
-        String token = jwtTokenService.generateToken(user);
+        // Generate access and refresh tokens
+        return refreshTokenService.authenticated(user);
+    }
 
-        return AuthResponse.success(token, user.getId(), user.getEmail(), user.getRole());
+    /**
+     * Exchange a refresh token for new tokens
+     */
+    public AuthResponse refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
     }
 
     /**
@@ -0,0 +1,248 @@
+package com.recruitment.service;
+
+import com.recruitment.event.CandidateSkillsEvent;
+import com.recruitment.event.UserRevokedEvent;
+import com.recruitment.repository.CandidateProfileRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+/**
+ * Precomputed skill vectors of every candidate profile, used to rank the whole
+ * candidate pool against a job without touching the database.
+ * Scoring is split across cores with fork/join; each leaf keeps a bounded min-heap
+ * of its best K candidates and heaps are merged on the way up.
+ */
+@ApplicationScoped
+public class CandidateSkillIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(CandidateSkillIndex.class.getName());
+
+    // Candidates scored sequentially by one fork/join leaf
+    private static final int LEAF_SIZE = 8192;
+
+    @Inject
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Inject
+    private MatchingService matchingService;
+
+    @Resource
+    private ManagedThreadFactory managedThreadFactory;
+
+    private ForkJoinPool pool;
+
+    // Dense storage so that the pool can be split by index; guarded by "this" for writes
+    private final Map<String, Integer> slots = new HashMap<>();
+    private volatile Entry[] entries = new Entry[1024];
+    private volatile int size;
+
+    /**
+     * Load the skill vectors of all active candidates at deployment
+     */
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), managedThreadFactory, null, false);
+
+        List<Object[]> rows = candidateProfileRepository.findAllSkills();
+        for (Object[] row : rows) {
+            update((String) row[0], (String) row[1]);
+        }
+        LOGGER.info("Candidate skill index built with " + rows.size() + " profiles");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Follow a saved or deleted candidate profile once its transaction has committed
+     */
+    public void onCandidateSkills(@Observes(during = TransactionPhase.AFTER_SUCCESS) CandidateSkillsEvent event) {
+        if (event.isDeleted()) {
+            remove(event.getCandidateId());
+        } else {
+            update(event.getCandidateId(), event.getSkills());
+        }
+    }
+
+    /**
+     * Drop the profile of a deactivated candidate once the deactivation has committed
+     */
+    public void onUserRevoked(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserRevokedEvent event) {
+        if (event.getCandidateId() != null) {
+            remove(event.getCandidateId());
+        }
+    }
+
+    /**
+     * Add or refresh the skills of a candidate profile
+     */
+    public synchronized void update(String candidateId, String skillsJson) {
+        Entry entry = new Entry(candidateId, matchingService.vectorize(skillsJson));
+        Integer slot = slots.get(candidateId);
+        if (slot != null) {
+            entries[slot] = entry;
+            return;
+        }
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[size] = entry;
+        slots.put(candidateId, size);
+        size++;
+    }
+
+    /**
+     * Remove a candidate profile from the index
+     */
+    public synchronized void remove(String candidateId) {
+        Integer slot = slots.remove(candidateId);
+        if (slot == null) {
+            return;
+        }
+        int last = size - 1;
+        if (slot != last) {
+            Entry moved = entries[last];
+            entries[slot] = moved;
+            slots.put(moved.candidateId, slot);
+        }
+        entries[last] = null;
+        size = last;
+    }
+
+    /**
+     * Precomputed vector of a candidate, or null if the candidate is unknown
+     */
+    public SkillVector get(String candidateId) {
+        Entry[] snapshot = entries;
+        Integer slot;
+        synchronized (this) {
+            slot = slots.get(candidateId);
+        }
+        Entry entry = slot != null && slot < snapshot.length ? snapshot[slot] : null;
+        return entry != null && entry.candidateId.equals(candidateId) ? entry.vector : null;
+    }
+
+    /**
+     * Best K candidates for the given requirements, highest score first.
+     * Candidates scoring 0 are not returned.
+     */
+    public List<ScoredCandidate> topK(SkillVector requirements, int k) {
+        if (requirements.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        int count = size;
+        Entry[] snapshot = entries;
+
+        PriorityQueue<ScoredCandidate> heap = pool.invoke(new TopKTask(snapshot, 0, count, requirements, k));
+
+        List<ScoredCandidate> result = new ArrayList<>(heap);
+        result.sort((a, b) -> Double.compare(b.score, a.score));
+        return result;
+    }
+
+    private final class TopKTask extends RecursiveTask<PriorityQueue<ScoredCandidate>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Entry[] snapshot;
+        private final int from;
+        private final int to;
+        private final SkillVector requirements;
+        private final int k;
+
+        private TopKTask(Entry[] snapshot, int from, int to, SkillVector requirements, int k) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.requirements = requirements;
+            this.k = k;
+        }
+
+        @Override
+        protected PriorityQueue<ScoredCandidate> compute() {
+            if (to - from <= LEAF_SIZE) {
+                PriorityQueue<ScoredCandidate> heap = new PriorityQueue<>(k + 1, ScoredCandidate::compareByScore);
+                for (int i = from; i < to; i++) {
+                    Entry entry = snapshot[i];
+                    if (entry == null) {
+                        continue;
+                    }
+                    double score = matchingService.score(entry.vector, requirements);
+                    if (score > 0 && (heap.size() < k || score > heap.peek().score)) {
+                        heap.offer(new ScoredCandidate(entry.candidateId, score));
+                        if (heap.size() > k) {
+                            heap.poll();
+                        }
+                    }
+                }
+                return heap;
+            }
+
+            int mid = (from + to) >>> 1;
+            TopKTask left = new TopKTask(snapshot, from, mid, requirements, k);
+            left.fork();
+            PriorityQueue<ScoredCandidate> right = new TopKTask(snapshot, mid, to, requirements, k).compute();
+            PriorityQueue<ScoredCandidate> merged = left.join();
+            for (ScoredCandidate candidate : right) {
+                merged.offer(candidate);
+                if (merged.size() > k) {
+                    merged.poll();
+                }
+            }
+            return merged;
+        }
+    }
+
+    private static final class Entry {
+        private final String candidateId;
+        private final SkillVector vector;
+
+        private Entry(String candidateId, SkillVector vector) {
+            this.candidateId = candidateId;
+            this.vector = vector;
+        }
+    }
+
+    /**
+     * Ranking hit: candidate profile id and its matching score
+     */
+    public static final class ScoredCandidate {
+        private final String candidateId;
+        private final double score;
+
+        public ScoredCandidate(String candidateId, double score) {
+            this.candidateId = candidateId;
+            this.score = score;
+        }
+
+        public String getCandidateId() {
+            return candidateId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        private static int compareByScore(ScoredCandidate a, ScoredCandidate b) {
+            return Double.compare(a.score, b.score);
+        }
+    }
+}
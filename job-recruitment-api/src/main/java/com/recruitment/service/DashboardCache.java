@@ -0,0 +1,104 @@
+package com.recruitment.service;
+
+import com.recruitment.dto.response.DashboardStatsResponse;
+import com.recruitment.event.ApplicationChangedEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of candidate and enterprise dashboards.
+ * Entries expire after a few seconds and are dropped as soon as an application of the
+ * profile changes, so a dashboard is at most TTL old only for changes made elsewhere
+ * (e.g. a job being closed).
+ */
+@ApplicationScoped
+public class DashboardCache {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final String CANDIDATE = "candidate:";
+    private static final String ENTERPRISE = "enterprise:";
+
+    // Access-ordered map evicting the least recently used profile; guarded by "this"
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // Dashboards being built; an invalidation in the meantime discards the result
+    private final Map<String, Object> loading = new HashMap<>();
+
+    /**
+     * Dashboard of a candidate profile, built by the loader when missing or expired
+     */
+    public DashboardStatsResponse getCandidate(String candidateId, Supplier<DashboardStatsResponse> loader) {
+        return get(CANDIDATE + candidateId, loader);
+    }
+
+    /**
+     * Dashboard of an enterprise profile, built by the loader when missing or expired
+     */
+    public DashboardStatsResponse getEnterprise(String enterpriseId, Supplier<DashboardStatsResponse> loader) {
+        return get(ENTERPRISE + enterpriseId, loader);
+    }
+
+    /**
+     * Drop the dashboards concerned once the change has committed
+     */
+    public void onApplicationChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ApplicationChangedEvent event) {
+        synchronized (this) {
+            if (event.getCandidateId() != null) {
+                invalidate(CANDIDATE + event.getCandidateId());
+            }
+            if (event.getEnterpriseId() != null) {
+                invalidate(ENTERPRISE + event.getEnterpriseId());
+            }
+        }
+    }
+
+    private DashboardStatsResponse get(String key, Supplier<DashboardStatsResponse> loader) {
+        Object token = new Object();
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+                return cached.value;
+            }
+            loading.put(key, token);
+        }
+
+        DashboardStatsResponse value = loader.get();
+
+        synchronized (this) {
+            if (loading.remove(key, token)) {
+                entries.put(key, new Entry(value, System.nanoTime() + TTL_NANOS));
+            }
+        }
+        return value;
+    }
+
+    // Caller holds the lock
+    private void invalidate(String key) {
+        loading.remove(key);
+        entries.remove(key);
+    }
+
+    private static final class Entry {
+        private final DashboardStatsResponse value;
+        private final long expiresAt;
+
+        private Entry(DashboardStatsResponse value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.recruitment.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Hit/miss statistics of the Hibernate second-level cache, per region
+ */
+@ApplicationScoped
+public class EntityCacheMetrics {
+
+    @PersistenceUnit(unitName = "recruitmentPU")
+    private EntityManagerFactory emf;
+
+    /**
+     * Totals and per-region counters since deployment
+     */
+    public Map<String, Object> getMetrics() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> counters = new LinkedHashMap<>();
+            counters.put("hits", region.getHitCount());
+            counters.put("misses", region.getMissCount());
+            counters.put("puts", region.getPutCount());
+            counters.put("elementsInMemory", region.getElementCountInMemory());
+            regions.put(name, counters);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        metrics.put("hits", statistics.getSecondLevelCacheHitCount());
+        metrics.put("misses", statistics.getSecondLevelCacheMissCount());
+        metrics.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        metrics.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        metrics.put("regions", regions);
+        return metrics;
+    }
+}
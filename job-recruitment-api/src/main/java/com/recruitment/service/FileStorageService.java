@@ -0,0 +1,380 @@
+package com.recruitment.service;
+
+import com.recruitment.entity.FileBlob;
+import com.recruitment.exception.ApiException;
+import com.recruitment.repository.FileBlobRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Service storing uploaded files.
+ * Uploads are streamed through a fixed direct buffer into a temporary file, so memory
+ * use does not depend on the file size; the size limit is enforced while reading and
+ * the type is recognized from the first bytes.
+ *
+ * Files are content-addressed: the SHA-256 computed while streaming names the blob,
+ * stored once under blobs/ab/cd/{hash} however many users upload it. Blobs are
+ * referenced by the profile fields holding their URL (see UserService), and blobs
+ * left without references after a grace period are removed by a periodic garbage
+ * collection.
+ */
+@ApplicationScoped
+public class FileStorageService {
+
+    private static final Logger LOGGER = Logger.getLogger(FileStorageService.class.getName());
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String BLOB_DIRECTORY = "blobs";
+    public static final String PUBLIC_PREFIX = "/api/files/";
+
+    // Unreferenced blobs are kept this long: a fresh upload waits here until its URL is saved
+    private static final long GC_GRACE_MINUTES = 60;
+    private static final long GC_INTERVAL_MINUTES = 60;
+    private static final int GC_BATCH_SIZE = 500;
+
+    // Serializes placing/attaching a blob with its collection, per hash stripe
+    private static final int LOCK_STRIPES = 64;
+
+    // Hex-encoded SHA-256
+    private static final int HASH_LENGTH = 64;
+    private static final Pattern HEX_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    @Inject
+    @ConfigProperty(name = "upload.path", defaultValue = "/uploads")
+    private String uploadPath;
+
+    @Inject
+    @ConfigProperty(name = "upload.max.size", defaultValue = "5242880")
+    private long maxSize;
+
+    @Inject
+    private FileBlobRepository fileBlobRepository;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private ScheduledFuture<?> gcTask;
+
+    public FileStorageService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        gcTask = scheduler.scheduleWithFixedDelay(this::collectGarbage,
+                GC_INTERVAL_MINUTES, GC_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (gcTask != null) {
+            gcTask.cancel(false);
+        }
+    }
+
+    /**
+     * Store an upload for a category and return its public path (e.g. /api/files/{hash}.jpg).
+     * The file is kept for the grace period only, unless a profile field references it.
+     */
+    public String store(InputStream in, UploadCategory category) {
+        if (in == null) {
+            throw new ApiException("No file uploaded", 400);
+        }
+
+        Path tempDir = Paths.get(uploadPath, TEMP_DIRECTORY);
+        Path temp = null;
+        try {
+            Files.createDirectories(tempDir);
+            temp = tempDir.resolve(UUID.randomUUID().toString());
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            FileType type = copyLimited(in, temp, digest);
+            if (type == null || !category.accepts(type)) {
+                throw new ApiException("Unsupported file type", 415);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            long size = Files.size(temp);
+
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                Path blob = blobPath(hash);
+                if (!Files.exists(blob)) {
+                    Files.createDirectories(blob.getParent());
+                    try {
+                        Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                        temp = null;
+                    } catch (FileAlreadyExistsException e) {
+                        // Placed by another node sharing the upload directory: same content
+                    }
+                }
+                fileBlobRepository.register(hash, type.getMimeType(), size);
+            } finally {
+                lock.unlock();
+            }
+
+            return PUBLIC_PREFIX + hash + type.getExtension();
+        } catch (IOException e) {
+            throw new ApiException("Failed to upload file", 500);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Location of a blob on disk, sharded by the first two bytes of its hash
+     */
+    public Path blobPath(String hash) {
+        return Paths.get(uploadPath, BLOB_DIRECTORY, hash.substring(0, 2), hash.substring(2, 4), hash);
+    }
+
+    /**
+     * Hash of the blob behind a public path returned by store(), or null for other URLs
+     */
+    public String hashOf(String publicPath) {
+        if (publicPath == null || !publicPath.startsWith(PUBLIC_PREFIX)) {
+            return null;
+        }
+        String name = publicPath.substring(PUBLIC_PREFIX.length());
+        int dot = name.indexOf('.');
+        if (dot != HASH_LENGTH || FileType.fromExtension(name) == null) {
+            return null;
+        }
+        String hash = name.substring(0, dot);
+        return HEX_HASH.matcher(hash).matches() ? hash : null;
+    }
+
+    /**
+     * The stored file behind a public path returned by store(), or null for other URLs
+     */
+    public StoredFile resolve(String publicPath) {
+        if (publicPath == null || !publicPath.startsWith(PUBLIC_PREFIX)) {
+            return null;
+        }
+        String[] parts = publicPath.substring(PUBLIC_PREFIX.length()).split("/");
+        if (parts.length == 1) {
+            return findBlob(parts[0]);
+        }
+        UploadCategory category = UploadCategory.fromDirectory(parts[0]);
+        return parts.length == 2 && category != null ? findLegacy(category, parts[1]) : null;
+    }
+
+    /**
+     * A blob by its public name ({hash}{ext}), or null if there is none.
+     * The type is the one sniffed at upload; a name with another extension matches nothing,
+     * so a CV cannot be fetched as an image (and cached publicly as one).
+     */
+    public StoredFile findBlob(String name) {
+        int dot = name.indexOf('.');
+        if (dot != HASH_LENGTH) {
+            return null;
+        }
+        String hash = name.substring(0, dot);
+        FileType type = fileBlobRepository.findByHash(hash)
+                .map(blob -> FileType.fromMimeType(blob.getContentType()))
+                .orElse(null);
+        if (type == null || !name.substring(dot).equals(type.getExtension())) {
+            return null;
+        }
+        // The hash is the content: it is a strong validator for every copy of the file
+        return describe(blobPath(hash), type, "\"" + hash + "\"");
+    }
+
+    /**
+     * A file stored before content addressing (e.g. photos/{ownerId}_{uuid}.jpg), or null
+     */
+    public StoredFile findLegacy(UploadCategory category, String name) {
+        FileType type = FileType.fromExtension(name);
+        Path dir = Paths.get(uploadPath, category.getDirectory()).normalize();
+        Path path = dir.resolve(name).normalize();
+        if (type == null || !category.accepts(type) || !dir.equals(path.getParent())) {
+            return null;
+        }
+        // Legacy names are unique and never rewritten, so size and time identify the content
+        return describe(path, type, null);
+    }
+
+    /**
+     * Delete blobs that have had no reference for the grace period
+     */
+    void collectGarbage() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusMinutes(GC_GRACE_MINUTES);
+            List<FileBlob> candidates;
+            do {
+                candidates = fileBlobRepository.findUnreferenced(before, GC_BATCH_SIZE);
+                for (FileBlob blob : candidates) {
+                    collect(blob.getHash(), before);
+                }
+            } while (candidates.size() == GC_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "File garbage collection failed", e);
+        }
+    }
+
+    private void collect(String hash, LocalDateTime before) {
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            // Re-checked in the delete itself: a reference or upload may have come meanwhile
+            if (fileBlobRepository.deleteIfUnreferenced(hash, before)) {
+                Files.deleteIfExists(blobPath(hash));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not delete blob " + hash, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StoredFile describe(Path path, FileType type, String etag) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String tag = etag != null ? etag : "\"" + attributes.size() + "-" + lastModified + "\"";
+            return new StoredFile(path, type, attributes.size(), lastModified, tag);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Stream the upload into the given file, stopping as soon as it exceeds the size limit.
+     * Returns the type recognized from the first bytes; the digest is fed with every byte written.
+     */
+    private FileType copyLimited(InputStream in, Path target, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        FileType type = null;
+        boolean sniffed = false;
+        long written = 0;
+
+        try (ReadableByteChannel source = Channels.newChannel(in);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (true) {
+                int read = source.read(buffer);
+                // Wait for enough bytes to recognize the type, unless the stream ended
+                if (!sniffed && read >= 0 && buffer.position() < FileType.SNIFF_LENGTH) {
+                    continue;
+                }
+                buffer.flip();
+                if (!sniffed) {
+                    type = FileType.sniff(buffer);
+                    sniffed = true;
+                }
+
+                written += buffer.remaining();
+                if (written > maxSize) {
+                    throw new ApiException("File exceeds the maximum size of " + maxSize + " bytes", 413);
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+
+                if (read < 0) {
+                    break;
+                }
+            }
+        }
+        if (written == 0) {
+            throw new ApiException("No file uploaded", 400);
+        }
+        return type;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Leftover temp files are harmless
+        }
+    }
+
+    /**
+     * A file on disk with what is needed to serve it
+     */
+    public static final class StoredFile {
+        private final Path path;
+        private final FileType type;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+
+        public StoredFile(Path path, FileType type, long size, long lastModified, String etag) {
+            this.path = path;
+            this.type = type;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public FileType getType() {
+            return type;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
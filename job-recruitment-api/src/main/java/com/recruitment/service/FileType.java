@@ -0,0 +1,108 @@
+package com.recruitment.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File types accepted for upload, recognized from their first bytes ("magic numbers")
+ * rather than from the client-supplied name or Content-Type
+ */
+public enum FileType {
+
+    JPEG("image/jpeg", ".jpg"),
+    PNG("image/png", ".png"),
+    GIF("image/gif", ".gif"),
+    WEBP("image/webp", ".webp"),
+    PDF("application/pdf", ".pdf"),
+    DOC("application/msword", ".doc"),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", ".docx");
+
+    // Number of leading bytes needed to recognize every type
+    public static final int SNIFF_LENGTH = 12;
+
+    private final String mimeType;
+    private final String extension;
+
+    FileType(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Recognize the type from the first bytes of a file (position 0 to limit of the buffer),
+     * or null if it is not an accepted type
+     */
+    public static FileType sniff(ByteBuffer head) {
+        byte[] b = new byte[Math.min(head.remaining(), SNIFF_LENGTH)];
+        head.duplicate().get(b);
+
+        if (startsWith(b, 0xFF, 0xD8, 0xFF)) {
+            return JPEG;
+        }
+        if (startsWith(b, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return PNG;
+        }
+        if (startsWith(b, 'G', 'I', 'F', '8')) {
+            return GIF;
+        }
+        if (b.length >= 12 && startsWith(b, 'R', 'I', 'F', 'F')
+                && "WEBP".equals(new String(b, 8, 4, StandardCharsets.US_ASCII))) {
+            return WEBP;
+        }
+        if (startsWith(b, '%', 'P', 'D', 'F', '-')) {
+            return PDF;
+        }
+        if (startsWith(b, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return DOC;
+        }
+        if (startsWith(b, 'P', 'K', 0x03, 0x04)) {
+            // OOXML documents are zip archives
+            return DOCX;
+        }
+        return null;
+    }
+
+    /**
+     * Type of a stored file from its extension, or null if unknown
+     */
+    public static FileType fromExtension(String fileName) {
+        for (FileType type : values()) {
+            if (fileName.endsWith(type.extension)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Type recorded for a stored blob from its MIME type, or null if unknown
+     */
+    public static FileType fromMimeType(String mimeType) {
+        for (FileType type : values()) {
+            if (type.mimeType.equals(mimeType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
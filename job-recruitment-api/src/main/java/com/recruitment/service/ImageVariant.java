@@ -0,0 +1,20 @@
+package com.recruitment.service;
+
+/**
+ * Fixed sizes generated for uploaded photos and logos, as the longest side in pixels
+ */
+public enum ImageVariant {
+
+    SMALL(64),   // avatars and logos in lists
+    MEDIUM(256); // profile and job detail pages
+
+    private final int size;
+
+    ImageVariant(int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
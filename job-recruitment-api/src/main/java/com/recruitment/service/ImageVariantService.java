@@ -0,0 +1,204 @@
+package com.recruitment.service;
+
+import com.recruitment.event.ImageChangedEvent;
+import com.recruitment.service.FileStorageService.StoredFile;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Generates the small and medium variants of photos and logos.
+ * Work is queued once the profile change commits and runs on a small bounded pool;
+ * images are decoded with subsampling, scaled down and re-encoded as JPEG (PNG when
+ * they have transparency), then stored like any other upload.
+ */
+@ApplicationScoped
+public class ImageVariantService {
+
+    private static final Logger LOGGER = Logger.getLogger(ImageVariantService.class.getName());
+
+    // Refuse to decode anything larger, whatever its file size (decompression bombs)
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    @Inject
+    @ConfigProperty(name = "image.variant.threads", defaultValue = "2")
+    private int threads;
+
+    @Inject
+    @ConfigProperty(name = "image.variant.queue", defaultValue = "100")
+    private int queueCapacity;
+
+    @Inject
+    private FileStorageService fileStorageService;
+
+    @Inject
+    private UserService userService;
+
+    @Resource
+    private ManagedThreadFactory managedThreadFactory;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), managedThreadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue a photo or logo once the transaction that set it has committed
+     */
+    public void onImageChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ImageChangedEvent event) {
+        try {
+            executor.execute(() -> generate(event));
+        } catch (RejectedExecutionException e) {
+            // Pages fall back to the original image
+        }
+    }
+
+    private void generate(ImageChangedEvent event) {
+        StoredFile source = fileStorageService.resolve(event.getUrl());
+        if (source == null) {
+            // External URL or file gone: nothing to resize
+            return;
+        }
+
+        try {
+            BufferedImage image = read(source.getPath());
+            if (image == null) {
+                // No ImageIO reader for the format: pages keep the original
+                return;
+            }
+
+            Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] encoded = encode(scale(image, variant.getSize()));
+                urls.put(variant, fileStorageService.store(new ByteArrayInputStream(encoded), event.getCategory()));
+            }
+
+            userService.saveImageVariants(event.getUserId(), event.getCategory(), event.getUrl(),
+                    urls.get(ImageVariant.SMALL), urls.get(ImageVariant.MEDIUM));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not generate variants of " + event.getUrl(), e);
+        }
+    }
+
+    /**
+     * Decode an image, skipping pixels that the largest variant does not need.
+     * Returns null for formats ImageIO cannot read (e.g. WebP) or oversized images.
+     */
+    private BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    return null;
+                }
+
+                // Keep at least twice the largest variant for a clean final downscale
+                int largest = ImageVariant.MEDIUM.getSize() * 2;
+                int step = Math.max(1, Math.min(width, height) / largest);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Fit the image within size x size, halving repeatedly for quality; never upscales
+     */
+    private BufferedImage scale(BufferedImage image, int size) {
+        boolean alpha = image.getColorModel().hasAlpha();
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        double ratio = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (image.getColorModel().hasAlpha()) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,15 +1,20 @@
 package com.recruitment.service;
 
+import com.recruitment.dto.request.AdminListQuery;
 import com.recruitment.dto.request.InterviewRequest;
+import com.recruitment.dto.response.AdminPageResponse;
 import com.recruitment.dto.response.InterviewResponse;
 import com.recruitment.entity.Application;
 import com.recruitment.entity.Interview;
 import com.recruitment.enums.ApplicationStatus;
 import com.recruitment.enums.InterviewStatus;
+import com.recruitment.event.ApplicationChangedEvent;
 import com.recruitment.exception.ApiException;
 import com.recruitment.repository.ApplicationRepository;
 import com.recruitment.repository.InterviewRepository;
+import com.recruitment.repository.SortKey;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
@@ -33,6 +38,9 @@ public class InterviewService {
     @Inject
     private NotificationService notificationService;
 
+    @Inject
+    private Event<ApplicationChangedEvent> applicationChangedEvent;
+
     /**
      * Schedule or update an interview
      */
@@ -63,6 +71,8 @@ public class InterviewService {
         // Update application status
         application.setStatus(ApplicationStatus.INTERVIEW_SCHEDULED);
         applicationRepository.save(application);
+        applicationChangedEvent.fire(new ApplicationChangedEvent(
+                application.getCandidate().getId(), application.getJobOffer().getEnterprise().getId()));
 
         // Notify candidate
         notificationService.createNotification(
@@ -83,13 +93,24 @@ public class InterviewService {
     }
 
     /**
-     * Get all interviews (admin) with full application data
+     * Get a page of interviews (admin) with full application data; dates filter the interview date
      */
     @Transactional
-    public List<InterviewResponse> getAllInterviews() {
-        return interviewRepository.findAllWithDetails().stream()
-                .map(interview -> InterviewResponse.fromEntityWithApplication(interview, interview.getApplication()))
-                .collect(Collectors.toList());
+    public AdminPageResponse<InterviewResponse> getInterviewsPage(AdminListQuery query) {
+        InterviewStatus status = AdminListQuery.parseEnum(InterviewStatus.class, query.getStatus(), "status");
+        SortKey<Interview> sort = AdminPages.sortKey(InterviewRepository.ADMIN_SORTS, query.getSort(),
+                InterviewRepository.SORT_DATE);
+        LocalDateTime from = query.getFromTime();
+        LocalDateTime to = query.getToTime();
+        String email = query.getEmailPrefix();
+
+        // No maintained counter for interviews: totals are always counted, up to the cap
+        return AdminPages.page(query, sort, Interview::getId,
+                (afterValue, afterId, limit) -> interviewRepository.findAdminPage(status, from, to, email,
+                        sort, query.isAscending(), afterValue, afterId, limit),
+                interview -> InterviewResponse.fromEntityWithApplication(interview, interview.getApplication()),
+                () -> interviewRepository.countAdmin(status, from, to, email, AdminPages.TOTAL_CAP),
+                null);
     }
 
     /**
@@ -102,5 +123,10 @@ public class InterviewService {
 
         interview.setStatus(status);
         interviewRepository.save(interview);
+
+        // Upcoming interviews are shown on the candidate dashboard
+        Application application = interview.getApplication();
+        applicationChangedEvent.fire(new ApplicationChangedEvent(
+                application.getCandidate().getId(), application.getJobOffer().getEnterprise().getId()));
     }
 }
@@ -0,0 +1,307 @@
+package com.recruitment.service;
+
+import com.recruitment.entity.JobOffer;
+import com.recruitment.enums.JobStatus;
+import com.recruitment.enums.JobType;
+import com.recruitment.event.JobChangedEvent;
+import com.recruitment.repository.JobOfferRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * In-memory inverted index over active job offers (title, description, requirements).
+ * Queries are ranked with BM25; every query term must match, and the last term is
+ * matched as a prefix so that search-as-you-type works.
+ */
+@ApplicationScoped
+public class JobSearchIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(JobSearchIndex.class.getName());
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Upper bound on the number of terms a prefix may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (jobId -> term frequency)
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+
+    private final Map<String, IndexedJob> jobs = new HashMap<>();
+
+    private long totalLength;
+
+    @Inject
+    private JobOfferRepository jobOfferRepository;
+
+    /**
+     * Build the index from the database at deployment
+     */
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        List<JobOffer> activeJobs = jobOfferRepository.findByStatus(JobStatus.ACTIVE);
+        activeJobs.forEach(this::index);
+        LOGGER.info("Job search index built with " + activeJobs.size() + " active jobs");
+    }
+
+    /**
+     * Follow a saved or deleted job once its transaction has committed
+     */
+    public void onJobChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) JobChangedEvent event) {
+        if (event.getJob() == null) {
+            remove(event.getJobId());
+        } else {
+            index(event.getJob());
+        }
+    }
+
+    /**
+     * Add or refresh a job; jobs that are no longer active are removed
+     */
+    public void index(JobOffer job) {
+        if (job.getStatus() != JobStatus.ACTIVE) {
+            remove(job.getId());
+            return;
+        }
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String text : new String[] { job.getTitle(), job.getDescription(), job.getRequirements() }) {
+            for (String token : tokenize(text)) {
+                termFrequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        IndexedJob indexed = new IndexedJob(job.getType(),
+                job.getLocation() != null ? job.getLocation().toLowerCase(Locale.ROOT) : "",
+                length, termFrequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+            jobs.put(job.getId(), indexed);
+            totalLength += length;
+            termFrequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                    .put(job.getId(), tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a job from the index
+     */
+    public void remove(String jobId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search active jobs, returning matching job ids ordered by descending score.
+     * Results strictly after (afterScore, afterId) are returned, at most limit of them.
+     */
+    public List<ScoredJob> search(String query, JobType type, String location,
+            Double afterScore, String afterId, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        boolean prefixLast = !Character.isWhitespace(query.charAt(query.length() - 1));
+        String locationFilter = location != null && !location.isEmpty() ? location.toLowerCase(Locale.ROOT) : null;
+
+        lock.readLock().lock();
+        try {
+            if (jobs.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / jobs.size());
+
+            Map<String, Double> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                List<String> expanded = (prefixLast && i == terms.size() - 1)
+                        ? expandPrefix(terms.get(i))
+                        : (postings.containsKey(terms.get(i)) ? List.of(terms.get(i)) : List.of());
+
+                // Score of this query term for every job containing one of its expansions
+                Map<String, Double> termScores = new HashMap<>();
+                for (String term : expanded) {
+                    Map<String, Integer> posting = postings.get(term);
+                    double idf = Math.log(1 + (jobs.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                    for (Map.Entry<String, Integer> entry : posting.entrySet()) {
+                        if (scores != null && !scores.containsKey(entry.getKey())) {
+                            continue;
+                        }
+                        IndexedJob job = jobs.get(entry.getKey());
+                        if (!job.matches(type, locationFilter)) {
+                            continue;
+                        }
+                        int tf = entry.getValue();
+                        double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * job.length / avgLength));
+                        termScores.merge(entry.getKey(), idf * norm, Math::max);
+                    }
+                }
+
+                // Every term must match: intersect with the previous terms
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<String, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<String, Double> entry : termScores.entrySet()) {
+                        scores.put(entry.getKey(), previous.get(entry.getKey()) + entry.getValue());
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<ScoredJob> results = new ArrayList<>();
+            for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                ScoredJob scored = new ScoredJob(entry.getKey(), entry.getValue());
+                if (afterScore == null || scored.isAfter(afterScore, afterId)) {
+                    results.add(scored);
+                }
+            }
+            results.sort(ScoredJob::compareTo);
+            return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed jobs
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return jobs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> expandPrefix(String prefix) {
+        List<String> expanded = new ArrayList<>();
+        for (String term : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+            expanded.add(term);
+            if (expanded.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return expanded;
+    }
+
+    private void removeInternal(String jobId) {
+        IndexedJob previous = jobs.remove(jobId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.termFrequencies.keySet()) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(jobId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Split text into lowercase terms; '+' and '#' are kept so that "c++" and "c#" stay searchable
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || (current.length() > 0 && (c == '+' || c == '#'))) {
+                current.append(Character.toLowerCase(c));
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static final class IndexedJob {
+        private final JobType type;
+        private final String location;
+        private final int length;
+        private final Map<String, Integer> termFrequencies;
+
+        private IndexedJob(JobType type, String location, int length, Map<String, Integer> termFrequencies) {
+            this.type = type;
+            this.location = location;
+            this.length = length;
+            this.termFrequencies = termFrequencies;
+        }
+
+        private boolean matches(JobType typeFilter, String locationFilter) {
+            return (typeFilter == null || typeFilter == type)
+                    && (locationFilter == null || location.contains(locationFilter));
+        }
+    }
+
+    /**
+     * Search hit: job id and its relevance score
+     */
+    public static final class ScoredJob implements Comparable<ScoredJob> {
+        private final String jobId;
+        private final double score;
+
+        public ScoredJob(String jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+
+        public String getJobId() {
+            return jobId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        private boolean isAfter(double afterScore, String afterId) {
+            return score < afterScore || (score == afterScore && jobId.compareTo(afterId) < 0);
+        }
+
+        @Override
+        public int compareTo(ScoredJob other) {
+            int byScore = Double.compare(other.score, score);
+            return byScore != 0 ? byScore : other.jobId.compareTo(jobId);
+        }
+    }
+}
@@ -1,21 +1,39 @@
 package com.recruitment.service;
 
+import com.recruitment.dto.request.AdminListQuery;
 import com.recruitment.dto.request.JobRequest;
+import com.recruitment.dto.request.PageCursor;
+import com.recruitment.dto.response.AdminPageResponse;
+import com.recruitment.dto.response.CandidateMatchResponse;
+import com.recruitment.dto.response.JobPageResponse;
 import com.recruitment.dto.response.JobResponse;
+import com.recruitment.entity.CandidateProfile;
 import com.recruitment.entity.EnterpriseProfile;
 import com.recruitment.entity.JobOffer;
+import com.recruitment.enums.CounterType;
 import com.recruitment.enums.JobStatus;
 import com.recruitment.enums.JobType;
+import com.recruitment.event.CounterChangedEvent;
+import com.recruitment.event.JobChangedEvent;
+import com.recruitment.event.SkillsChangedEvent;
 import com.recruitment.exception.ApiException;
 import com.recruitment.repository.ApplicationRepository;
+import com.recruitment.repository.CandidateProfileRepository;
 import com.recruitment.repository.EnterpriseProfileRepository;
 import com.recruitment.repository.JobOfferRepository;
+import com.recruitment.repository.SortKey;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +42,9 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class JobService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Inject
     private JobOfferRepository jobOfferRepository;
 
@@ -36,18 +57,33 @@ public class JobService {
     @Inject
     private MatchingService matchingService;
 
-    /**
-     * Get total job count
-     */
-    public long getJobCount() {
-        return jobOfferRepository.count();
-    }
+    @Inject
+    private JobSearchIndex jobSearchIndex;
+
+    @Inject
+    private CandidateSkillIndex candidateSkillIndex;
+
+    @Inject
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Inject
+    private Event<SkillsChangedEvent> skillsChangedEvent;
+
+    @Inject
+    private Event<CounterChangedEvent> counterChangedEvent;
+
+    @Inject
+    private Event<JobChangedEvent> jobChangedEvent;
+
+    @Inject
+    private PlatformCounterService platformCounterService;
 
     /**
-     * Get all active jobs with optional filters
+     * Get a page of active jobs with optional filters, newest first
      */
     @Transactional
-    public List<JobResponse> getActiveJobs(String type, String location, String search, String candidateId) {
+    public JobPageResponse getActiveJobs(String type, String location, String search, String candidateId,
+            String cursor, Integer limit) {
         JobType jobType = null;
         if (type != null && !type.isEmpty() && !type.equals("all")) {
             try {
@@ -57,7 +93,62 @@ public class JobService {
             }
         }
 
-        List<JobOffer> jobs = jobOfferRepository.findActiveJobs(jobType, location, search);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageCursor after = PageCursor.decode(cursor, 2);
+
+        List<JobOffer> jobs;
+        String nextCursor = null;
+        if (search != null && !search.isBlank()) {
+            // Ranked search: cursor holds (score, id) of the last hit of the previous page
+            Double afterScore = null;
+            String afterId = null;
+            if (after != null) {
+                try {
+                    afterScore = Double.valueOf(after.get(0));
+                } catch (NumberFormatException e) {
+                    throw new ApiException("Invalid cursor", 400);
+                }
+                afterId = after.get(1);
+            }
+
+            List<JobSearchIndex.ScoredJob> hits = jobSearchIndex.search(search, jobType, location,
+                    afterScore, afterId, pageSize + 1);
+            if (hits.size() > pageSize) {
+                hits = hits.subList(0, pageSize);
+                JobSearchIndex.ScoredJob last = hits.get(pageSize - 1);
+                nextCursor = PageCursor.of(Double.toString(last.getScore()), last.getJobId()).encode();
+            }
+
+            // Hydrate all hits in one query, then restore ranking order
+            Map<String, JobOffer> byId = jobOfferRepository.findActiveByIds(
+                    hits.stream().map(JobSearchIndex.ScoredJob::getJobId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(JobOffer::getId, Function.identity()));
+            jobs = hits.stream()
+                    .map(hit -> byId.get(hit.getJobId()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        } else {
+            // Cursor holds (createdAt, id) of the last job of the previous page
+            LocalDateTime afterCreatedAt = null;
+            String afterId = null;
+            if (after != null) {
+                try {
+                    afterCreatedAt = LocalDateTime.parse(after.get(0));
+                } catch (DateTimeParseException e) {
+                    throw new ApiException("Invalid cursor", 400);
+                }
+                afterId = after.get(1);
+            }
+
+            // Fetch one extra row to know whether a next page exists
+            jobs = jobOfferRepository.findActiveJobs(jobType, location, afterCreatedAt, afterId, pageSize + 1);
+            if (jobs.size() > pageSize) {
+                jobs = jobs.subList(0, pageSize);
+                JobOffer last = jobs.get(pageSize - 1);
+                nextCursor = PageCursor.of(last.getCreatedAt().toString(), last.getId()).encode();
+            }
+        }
 
         // Get applied job IDs for candidate
         Set<String> appliedJobIds = Set.of();
@@ -66,13 +157,14 @@ public class JobService {
         }
 
         Set<String> finalAppliedJobIds = appliedJobIds;
-        return jobs.stream()
+        List<JobResponse> responses = jobs.stream()
                 .map(job -> {
                     JobResponse response = JobResponse.fromEntity(job);
                     response.setHasApplied(finalAppliedJobIds.contains(job.getId()));
                     return response;
                 })
                 .collect(Collectors.toList());
+        return new JobPageResponse(responses, nextCursor);
     }
 
     /**
@@ -86,25 +178,56 @@ public class JobService {
     }
 
     /**
-     * Get all jobs (including closed) - for admin
+     * Get a page of jobs (including closed) - for admin
+     */
+    @Transactional
+    public AdminPageResponse<JobResponse> getJobsPage(AdminListQuery query) {
+        JobStatus status = AdminListQuery.parseEnum(JobStatus.class, query.getStatus(), "status");
+        SortKey<JobOffer> sort = AdminPages.sortKey(JobOfferRepository.ADMIN_SORTS, query.getSort(),
+                JobOfferRepository.SORT_CREATED_AT);
+        LocalDateTime from = query.getFromTime();
+        LocalDateTime to = query.getToTime();
+        String email = query.getEmailPrefix();
+
+        return AdminPages.page(query, sort, JobOffer::getId,
+                (afterValue, afterId, limit) -> jobOfferRepository.findAdminPage(status, from, to, email,
+                        sort, query.isAscending(), afterValue, afterId, limit),
+                JobResponse::fromEntity,
+                () -> jobOfferRepository.countAdmin(status, from, to, email, AdminPages.TOTAL_CAP),
+                () -> platformCounterService.getCount(CounterType.JOB_OFFERS));
+    }
+
+    /**
+     * Get jobs by enterprise
      */
     @Transactional
-    public List<JobResponse> getAllJobs() {
-        return jobOfferRepository.findAll().stream()
+    public List<JobResponse> getEnterpriseJobs(String enterpriseId) {
+        return jobOfferRepository.findByEnterpriseId(enterpriseId).stream()
                 .map(JobResponse::fromEntity)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get jobs by enterprise
+     * Rank the whole candidate pool against the requirements of one of the enterprise's jobs
      */
     @Transactional
-    public List<JobResponse> getEnterpriseJobs(String userId) {
-        EnterpriseProfile enterprise = enterpriseProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ApiException("Enterprise not found", 404));
+    public List<CandidateMatchResponse> getTopCandidates(String enterpriseId, String jobId, Integer limit) {
+        JobOffer job = jobOfferRepository.findById(jobId)
+                .filter(j -> j.getEnterprise().getId().equals(enterpriseId))
+                .orElseThrow(() -> new ApiException("Job not found", 404));
 
-        return jobOfferRepository.findByEnterpriseId(enterprise.getId()).stream()
-                .map(JobResponse::fromEntity)
+        int k = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<CandidateSkillIndex.ScoredCandidate> top = candidateSkillIndex.topK(
+                matchingService.vectorize(job.getRequirements()), k);
+
+        // Hydrate the K winners in one query, keeping ranking order
+        Map<String, CandidateProfile> byId = candidateProfileRepository.findByIdsWithUser(
+                top.stream().map(CandidateSkillIndex.ScoredCandidate::getCandidateId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(CandidateProfile::getId, Function.identity()));
+        return top.stream()
+                .filter(hit -> byId.containsKey(hit.getCandidateId()))
+                .map(hit -> CandidateMatchResponse.fromEntity(byId.get(hit.getCandidateId()), hit.getScore()))
                 .collect(Collectors.toList());
     }
 
@@ -112,8 +235,8 @@ public class JobService {
      * Create a new job
      */
     @Transactional
-    public JobResponse createJob(String userId, JobRequest request) {
-        EnterpriseProfile enterprise = enterpriseProfileRepository.findByUserId(userId)
+    public JobResponse createJob(String enterpriseId, JobRequest request) {
+        EnterpriseProfile enterprise = enterpriseProfileRepository.findById(enterpriseId)
                 .orElseThrow(() -> new ApiException("Enterprise profile not found", 404));
 
         JobOffer job = new JobOffer();
@@ -127,6 +250,8 @@ public class JobService {
         job.setStatus(JobStatus.ACTIVE);
 
         job = jobOfferRepository.save(job);
+        jobChangedEvent.fire(JobChangedEvent.saved(job));
+        counterChangedEvent.fire(new CounterChangedEvent(CounterType.JOB_OFFERS, 1));
         return JobResponse.fromEntity(job);
     }
 
@@ -137,6 +262,7 @@ public class JobService {
     public JobResponse updateJob(String jobId, JobRequest request) {
         JobOffer job = jobOfferRepository.findById(jobId)
                 .orElseThrow(() -> new ApiException("Job not found", 404));
+        String previousRequirements = job.getRequirements();
 
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
@@ -150,6 +276,12 @@ public class JobService {
         }
 
         job = jobOfferRepository.save(job);
+        jobChangedEvent.fire(JobChangedEvent.saved(job));
+
+        // Existing applications are re-scored in the background after commit
+        if (!Objects.equals(previousRequirements, job.getRequirements())) {
+            skillsChangedEvent.fire(SkillsChangedEvent.forJob(job.getId()));
+        }
         return JobResponse.fromEntity(job);
     }
 
@@ -160,7 +292,12 @@ public class JobService {
     public void deleteJob(String jobId) {
         JobOffer job = jobOfferRepository.findById(jobId)
                 .orElseThrow(() -> new ApiException("Job not found", 404));
+        // Applications are removed with the job
+        long applications = job.getApplicationCount();
         jobOfferRepository.delete(job);
+        jobChangedEvent.fire(JobChangedEvent.deleted(jobId));
+        counterChangedEvent.fire(new CounterChangedEvent(CounterType.JOB_OFFERS, -1));
+        counterChangedEvent.fire(new CounterChangedEvent(CounterType.APPLICATIONS, -applications));
     }
 
     /**
@@ -172,5 +309,6 @@ public class JobService {
                 .orElseThrow(() -> new ApiException("Job not found", 404));
         job.setStatus(JobStatus.valueOf(status));
         jobOfferRepository.save(job);
+        jobChangedEvent.fire(JobChangedEvent.saved(job));
     }
 }
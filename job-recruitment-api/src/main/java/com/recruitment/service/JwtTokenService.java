@@ -1,7 +1,10 @@
 package com.recruitment.service;
 
 import com.recruitment.entity.User;
+import com.recruitment.security.UserPrincipal;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,7 +15,12 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for JWT token generation and validation
@@ -25,11 +33,19 @@ public class JwtTokenService {
     private String secret;
 
     @Inject
-    @ConfigProperty(name = "jwt.expiration", defaultValue = "2592000000")
-    private long expiration; // 30 days in milliseconds
+    @ConfigProperty(name = "jwt.expiration", defaultValue = "900000")
+    private long expiration; // 15 minutes in milliseconds; longer sessions use refresh tokens
+
+    // Upper bound on cached verified tokens; expired entries are swept when it is reached
+    private static final int MAX_CACHED_TOKENS = 100_000;
 
     private SecretKey signingKey;
 
+    private JwtParser parser;
+
+    // SHA-256 of the token -> principal already verified for it
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         // Ensure the secret is at least 256 bits (32 bytes)
@@ -38,6 +54,9 @@ public class JwtTokenService {
             paddedSecret += secret;
         }
         this.signingKey = Keys.hmacShaKeyFor(paddedSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -47,10 +66,18 @@ public class JwtTokenService {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
+        String profileId = null;
+        if (user.getCandidateProfile() != null) {
+            profileId = user.getCandidateProfile().getId();
+        } else if (user.getEnterpriseProfile() != null) {
+            profileId = user.getEnterpriseProfile().getId();
+        }
+
         return Jwts.builder()
                 .setSubject(user.getId())
                 .claim("email", user.getEmail())
                 .claim("role", user.getRole().name())
+                .claim("profileId", profileId)
                 .claim("isActive", user.isActive())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -58,15 +85,68 @@ public class JwtTokenService {
                 .compact();
     }
 
+    /**
+     * Access token lifetime in milliseconds
+     */
+    public long getExpiration() {
+        return expiration;
+    }
+
     /**
      * Validate a JWT token and return claims
      */
     public Claims validateToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Validate a JWT token and return its principal.
+     * A token seen before is resolved from memory by its digest, without verifying the
+     * signature or parsing the claims again, until it expires.
+     */
+    public UserPrincipal authenticate(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                return cached.principal;
+            }
+            verifiedTokens.remove(digest, cached);
+            throw new JwtException("Token expired");
+        }
+
+        Claims claims = validateToken(token);
+        UserPrincipal principal = new UserPrincipal(claims.getSubject(),
+                claims.get("email", String.class), claims.get("role", String.class),
+                claims.get("profileId", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L);
+        Date expiry = claims.getExpiration();
+        if (expiry != null) {
+            if (verifiedTokens.size() >= MAX_CACHED_TOKENS) {
+                evictTokens(now);
+            }
+            verifiedTokens.put(digest, new VerifiedToken(principal, expiry.getTime()));
+        }
+        return principal;
+    }
+
+    private void evictTokens(long now) {
+        verifiedTokens.values().removeIf(verified -> verified.expiresAt <= now);
+        if (verifiedTokens.size() >= MAX_CACHED_TOKENS) {
+            // Still full of live tokens: start over rather than grow without bound
+            verifiedTokens.clear();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -116,4 +196,14 @@ public class JwtTokenService {
             return false;
         }
     }
+
+    private static final class VerifiedToken {
+        private final UserPrincipal principal;
+        private final long expiresAt;
+
+        private VerifiedToken(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for calculating skill matching scores
@@ -13,37 +17,127 @@ import java.util.List;
 @ApplicationScoped
 public class MatchingService {
 
+    // Bound on the number of distinct skill lists kept in vectorized form
+    private static final int MAX_CACHED_VECTORS = 50_000;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // Access-ordered map evicting the least recently used skill list; guarded by itself
+    private final Map<String, SkillVector> vectorCache = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SkillVector> eldest) {
+            return size() > MAX_CACHED_VECTORS;
+        }
+    };
+
+    @Inject
+    private SkillDictionary skillDictionary;
+
     /**
      * Calculate matching score between candidate skills and job requirements
      * 
      * @return percentage match (0-100)
      */
     public double calculateMatchingScore(String candidateSkillsJson, String jobRequirementsJson) {
-        List<String> candidateSkills = parseJsonArray(candidateSkillsJson);
-        List<String> jobRequirements = parseJsonArray(jobRequirementsJson);
+        return score(vectorize(candidateSkillsJson), vectorize(jobRequirementsJson));
+    }
 
+    /**
+     * Score precomputed vectors: the share of requirements matched by at least one
+     * candidate skill, where a skill matches when either string contains the other.
+     * Skills outside the dictionary are compared as strings.
+     * 
+     * @return percentage match (0-100)
+     */
+    public double score(SkillVector candidateSkills, SkillVector jobRequirements) {
         if (jobRequirements.isEmpty()) {
             return 0;
         }
+        if (candidateSkills.isEmpty()) {
+            return 0;
+        }
 
-        // Normalize skills and requirements
-        List<String> normalizedSkills = candidateSkills.stream()
-                .map(s -> s.toLowerCase().trim())
-                .toList();
+        BitSet skills = candidateSkills.bits();
+        String[] unknownSkills = candidateSkills.unknown();
+        int[] requirements = jobRequirements.ids();
+        int matchedCount = 0;
+        int i = 0;
+        while (i < requirements.length) {
+            // Ids are sorted: score each distinct requirement once, weighted by its repetitions
+            int id = requirements[i];
+            int run = 1;
+            while (i + run < requirements.length && requirements[i + run] == id) {
+                run++;
+            }
+            if (skillDictionary.related(id).intersects(skills)
+                    || matchesAny(skillDictionary.term(id), unknownSkills)) {
+                matchedCount += run;
+            }
+            i += run;
+        }
+        for (String requirement : jobRequirements.unknown()) {
+            if (matchesAny(requirement, unknownSkills) || matchesAnyTerm(requirement, candidateSkills.ids())) {
+                matchedCount++;
+            }
+        }
 
-        List<String> normalizedRequirements = jobRequirements.stream()
-                .map(r -> r.toLowerCase().trim())
-                .toList();
+        return Math.round((double) matchedCount / jobRequirements.size() * 100);
+    }
 
-        // Count matches (partial matching allowed)
-        long matchedCount = normalizedRequirements.stream()
-                .filter(req -> normalizedSkills.stream()
-                        .anyMatch(skill -> skill.contains(req) || req.contains(skill)))
-                .count();
+    /**
+     * Convert a JSON skill array to its interned vector form (cached by content)
+     */
+    public SkillVector vectorize(String json) {
+        if (json == null || json.isEmpty() || json.equals("[]")) {
+            return SkillVector.EMPTY;
+        }
+        synchronized (vectorCache) {
+            SkillVector cached = vectorCache.get(json);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        return Math.round((double) matchedCount / jobRequirements.size() * 100);
+        List<Integer> ids = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        for (String skill : parseJsonArray(json)) {
+            if (skill == null) {
+                continue;
+            }
+            String normalized = skill.toLowerCase().trim();
+            int id = skillDictionary.intern(normalized);
+            if (id == SkillDictionary.NOT_INTERNED) {
+                unknown.add(normalized);
+            } else {
+                ids.add(id);
+            }
+        }
+        SkillVector vector = new SkillVector(ids.stream().mapToInt(Integer::intValue).sorted().toArray(),
+                unknown.toArray(new String[0]));
+
+        synchronized (vectorCache) {
+            vectorCache.put(json, vector);
+        }
+        return vector;
+    }
+
+    private boolean matchesAny(String skill, String[] others) {
+        for (String other : others) {
+            if (skill.contains(other) || other.contains(skill)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesAnyTerm(String skill, int[] ids) {
+        for (int id : ids) {
+            String term = skillDictionary.term(id);
+            if (skill.contains(term) || term.contains(skill)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
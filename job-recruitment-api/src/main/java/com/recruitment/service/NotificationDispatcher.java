@@ -0,0 +1,170 @@
+package com.recruitment.service;
+
+import com.recruitment.entity.Notification;
+import com.recruitment.event.NotificationEvent;
+import com.recruitment.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes notifications off the request path.
+ * Notifications are queued once the transaction that produced them commits and a
+ * background worker inserts them in batches, then pushes them to open streams.
+ */
+@ApplicationScoped
+public class NotificationDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(NotificationDispatcher.class.getName());
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long DRAIN_INTERVAL_MILLIS = 200;
+
+    @Inject
+    private NotificationRepository notificationRepository;
+
+    @Inject
+    private NotificationStreamService notificationStreamService;
+
+    @Inject
+    private UnreadCountCache unreadCountCache;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final BlockingQueue<NotificationEvent> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    // Metrics
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalFlushMillis = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+    private volatile int lastBatchSize;
+
+    private ScheduledFuture<?> drainTask;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        drainTask = scheduler.scheduleWithFixedDelay(this::drain,
+                DRAIN_INTERVAL_MILLIS, DRAIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (drainTask != null) {
+            drainTask.cancel(false);
+        }
+        // Do not lose what is already queued on undeploy
+        drain();
+    }
+
+    /**
+     * Queue a notification once the transaction that created it has committed
+     */
+    public void onNotification(@Observes(during = TransactionPhase.AFTER_SUCCESS) NotificationEvent event) {
+        if (queue.offer(event)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        // Queue full: write it in its own task rather than dropping it (we are still inside
+        // the completion of the caller's transaction here, so no database work inline)
+        overflowed.incrementAndGet();
+        scheduler.execute(() -> flush(List.of(event)));
+    }
+
+    /**
+     * Queue depth, flush latency and totals since deployment
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long batchCount = batches.get();
+        metrics.put("queueDepth", queue.size());
+        metrics.put("queueCapacity", QUEUE_CAPACITY);
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("written", written.get());
+        metrics.put("overflowed", overflowed.get());
+        metrics.put("failed", failed.get());
+        metrics.put("batches", batchCount);
+        metrics.put("lastBatchSize", lastBatchSize);
+        metrics.put("lastFlushMillis", lastFlushMillis);
+        metrics.put("maxFlushMillis", maxFlushMillis);
+        metrics.put("avgFlushMillis", batchCount > 0 ? (double) totalFlushMillis.get() / batchCount : 0.0);
+        return metrics;
+    }
+
+    private void drain() {
+        List<NotificationEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (queue.drainTo(batch, MAX_BATCH_SIZE) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Update unread counts and open streams once notifications are committed.
+     * Failures are only logged: the rows exist, so the batch must not be written again.
+     */
+    private void stored(List<Notification> notifications) {
+        try {
+            Map<String, Long> perUser = new HashMap<>();
+            for (Notification notification : notifications) {
+                perUser.merge(notification.getUser().getId(), 1L, Long::sum);
+            }
+            perUser.forEach(unreadCountCache::adjust);
+            notificationStreamService.publish(notifications);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not publish " + notifications.size() + " stored notifications", e);
+        }
+    }
+
+    private void flush(List<NotificationEvent> batch) {
+        long start = System.nanoTime();
+        List<Notification> saved = new ArrayList<>(batch.size());
+        try {
+            saved.addAll(notificationRepository.saveAll(batch));
+        } catch (RuntimeException e) {
+            // One bad row (e.g. the user was deleted meanwhile) must not lose the whole batch
+            LOGGER.log(Level.WARNING, "Batch of " + batch.size() + " notifications failed, retrying one by one", e);
+            for (NotificationEvent event : batch) {
+                try {
+                    saved.addAll(notificationRepository.saveAll(List.of(event)));
+                } catch (RuntimeException single) {
+                    failed.incrementAndGet();
+                }
+            }
+        }
+        written.addAndGet(saved.size());
+        if (!saved.isEmpty()) {
+            stored(saved);
+        }
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        batches.incrementAndGet();
+        totalFlushMillis.addAndGet(millis);
+        lastFlushMillis = millis;
+        maxFlushMillis = Math.max(maxFlushMillis, millis);
+        lastBatchSize = batch.size();
+    }
+}
@@ -2,13 +2,11 @@ package com.recruitment.service;
 
 import com.recruitment.dto.response.NotificationResponse;
 import com.recruitment.entity.Notification;
-import com.recruitment.entity.User;
-import com.recruitment.exception.ApiException;
+import com.recruitment.event.NotificationEvent;
 import com.recruitment.repository.NotificationRepository;
-import com.recruitment.repository.UserRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,18 +21,20 @@ public class NotificationService {
     private NotificationRepository notificationRepository;
 
     @Inject
-    private UserRepository userRepository;
+    private NotificationStreamService notificationStreamService;
+
+    @Inject
+    private UnreadCountCache unreadCountCache;
+
+    @Inject
+    private Event<NotificationEvent> notificationEvent;
 
     /**
-     * Create a notification for a user
+     * Create a notification for a user.
+     * The notification is written asynchronously once the caller's transaction commits.
      */
-    @Transactional
     public void createNotification(String userId, String content) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException("User not found", 404));
-
-        Notification notification = new Notification(user, content);
-        notificationRepository.save(notification);
+        notificationEvent.fire(new NotificationEvent(userId, content));
     }
 
     /**
@@ -42,31 +42,39 @@ public class NotificationService {
      */
     public List<NotificationResponse> getNotifications(String userId, int limit) {
         return notificationRepository.findByUserId(userId, limit).stream()
-                .map(n -> new NotificationResponse(n.getId(), n.getContent(), n.isRead(),
-                        n.getCreatedAt() != null ? n.getCreatedAt().toString() : null))
+                .map(NotificationService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    static NotificationResponse toResponse(Notification n) {
+        return new NotificationResponse(n.getId(), n.getContent(), n.isRead(),
+                n.getCreatedAt() != null ? n.getCreatedAt().toString() : null);
+    }
+
     /**
      * Get unread count for a user
      */
     public long getUnreadCount(String userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCountCache.get(userId);
     }
 
     /**
-     * Mark notification as read
+     * Mark notification as read and push the new unread count to the user's streams
      */
-    @Transactional
-    public void markAsRead(String notificationId) {
-        notificationRepository.markAsRead(notificationId);
+    public void markAsRead(String userId, String notificationId) {
+        if (notificationRepository.markAsRead(userId, notificationId) > 0) {
+            unreadCountCache.adjust(userId, -1);
+            notificationStreamService.publishUnreadCount(userId);
+        }
     }
 
     /**
-     * Mark all notifications as read
+     * Mark all notifications as read and push the new unread count to the user's streams
      */
-    @Transactional
     public void markAllAsRead(String userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
+        if (notificationRepository.markAllAsReadByUserId(userId) > 0) {
+            unreadCountCache.invalidate(userId);
+            notificationStreamService.publishUnreadCount(userId);
+        }
     }
 }
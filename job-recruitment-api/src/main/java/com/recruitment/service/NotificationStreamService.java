@@ -0,0 +1,196 @@
+package com.recruitment.service;
+
+import com.recruitment.dto.response.NotificationResponse;
+import com.recruitment.entity.Notification;
+import com.recruitment.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events connections of logged-in users.
+ * Sinks are held without a thread: events are written asynchronously when a
+ * notification is stored or the unread count changes, and a heartbeat keeps idle
+ * connections open through proxies.
+ */
+@ApplicationScoped
+public class NotificationStreamService {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 25;
+
+    // Reconnection delay suggested to the browser
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    // Upper bound on notifications replayed after a reconnection
+    private static final int MAX_REPLAY = 50;
+
+    @Inject
+    private NotificationRepository notificationRepository;
+
+    @Inject
+    private UnreadCountCache unreadCountCache;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final Map<String, Set<SseEventSink>> connections = new ConcurrentHashMap<>();
+
+    private final AtomicLong eventsSent = new AtomicLong();
+
+    private volatile Sse sse;
+
+    private ScheduledFuture<?> heartbeatTask;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        heartbeatTask = scheduler.scheduleWithFixedDelay(this::heartbeat,
+                HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeatTask != null) {
+            heartbeatTask.cancel(false);
+        }
+        connections.values().forEach(sinks -> sinks.forEach(SseEventSink::close));
+        connections.clear();
+    }
+
+    /**
+     * Register a new connection, replaying the notifications created after lastEventId
+     * (if the client is resuming) followed by the current unread count
+     */
+    public void open(String userId, SseEventSink sink, Sse sse, String lastEventId) {
+        this.sse = sse;
+        connections.compute(userId, (id, sinks) -> {
+            Set<SseEventSink> updated = sinks != null ? sinks : ConcurrentHashMap.newKeySet();
+            updated.add(sink);
+            return updated;
+        });
+
+        send(userId, sink, sse.newEventBuilder().comment("connected").reconnectDelay(RECONNECT_DELAY_MILLIS).build());
+        if (lastEventId != null && !lastEventId.isEmpty()) {
+            for (Notification notification : notificationRepository.findByUserIdAfter(userId, lastEventId, MAX_REPLAY)) {
+                send(userId, sink, notificationEvent(notification));
+            }
+        }
+        send(userId, sink, unreadCountEvent(unreadCountCache.get(userId)));
+    }
+
+    /**
+     * Push freshly stored notifications to their owners, followed by their new unread count
+     */
+    public void publish(List<Notification> notifications) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        Set<String> touched = new HashSet<>();
+        for (Notification notification : notifications) {
+            String userId = notification.getUser().getId();
+            if (connections.containsKey(userId)) {
+                broadcast(userId, notificationEvent(notification));
+                touched.add(userId);
+            }
+        }
+        touched.forEach(this::publishUnreadCount);
+    }
+
+    /**
+     * Push the current unread count to a user's open connections
+     */
+    public void publishUnreadCount(String userId) {
+        if (connections.containsKey(userId)) {
+            broadcast(userId, unreadCountEvent(unreadCountCache.get(userId)));
+        }
+    }
+
+    /**
+     * Open connections and events sent since deployment
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("connectedUsers", connections.size());
+        metrics.put("openConnections", connections.values().stream().mapToInt(Set::size).sum());
+        metrics.put("eventsSent", eventsSent.get());
+        return metrics;
+    }
+
+    private void heartbeat() {
+        Sse current = sse;
+        if (current == null) {
+            return;
+        }
+        OutboundSseEvent ping = current.newEventBuilder().comment("ping").build();
+        connections.keySet().forEach(userId -> broadcast(userId, ping));
+    }
+
+    private void broadcast(String userId, OutboundSseEvent event) {
+        Set<SseEventSink> sinks = connections.get(userId);
+        if (sinks == null) {
+            return;
+        }
+        for (SseEventSink sink : sinks) {
+            send(userId, sink, event);
+        }
+    }
+
+    private void send(String userId, SseEventSink sink, OutboundSseEvent event) {
+        if (sink.isClosed()) {
+            unregister(userId, sink);
+            return;
+        }
+        sink.send(event).whenComplete((ignored, error) -> {
+            if (error != null) {
+                // Client went away: drop the connection
+                sink.close();
+                unregister(userId, sink);
+            } else {
+                eventsSent.incrementAndGet();
+            }
+        });
+    }
+
+    private void unregister(String userId, SseEventSink sink) {
+        connections.computeIfPresent(userId, (id, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+
+    private OutboundSseEvent notificationEvent(Notification notification) {
+        return sse.newEventBuilder()
+                .name(EVENT_NOTIFICATION)
+                .id(notification.getId())
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(NotificationResponse.class, NotificationService.toResponse(notification))
+                .build();
+    }
+
+    private OutboundSseEvent unreadCountEvent(long unreadCount) {
+        return sse.newEventBuilder()
+                .name(EVENT_UNREAD_COUNT)
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(Map.class, Map.of("unreadCount", unreadCount))
+                .build();
+    }
+}
@@ -1,16 +1,58 @@
 package com.recruitment.service;
 
+import com.recruitment.exception.ApiException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.mindrot.jbcrypt.BCrypt;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
- * Service for password hashing and verification
+ * Service for password hashing and verification.
+ * BCrypt runs on a small dedicated pool so that a burst of logins cannot take every
+ * request thread; when the pool and its queue are full, callers get a 503 at once.
  */
 @ApplicationScoped
 public class PasswordService {
 
     private static final int LOG_ROUNDS = 10;
 
+    @Inject
+    @ConfigProperty(name = "password.hash.threads", defaultValue = "0")
+    private int threads; // 0 = number of cores
+
+    @Inject
+    @ConfigProperty(name = "password.hash.queue", defaultValue = "32")
+    private int queueCapacity;
+
+    @Resource
+    private ManagedThreadFactory managedThreadFactory;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), managedThreadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
     /**
      * Hash a password using BCrypt
      */
@@ -24,4 +66,27 @@ public class PasswordService {
     public boolean verifyPassword(String password, String hashedPassword) {
         return BCrypt.checkpw(password, hashedPassword);
     }
+
+    /**
+     * Hash a password on the hashing pool
+     */
+    public CompletableFuture<String> hashPasswordAsync(String password) {
+        return submit(() -> hashPassword(password));
+    }
+
+    /**
+     * Verify a password against a hash on the hashing pool
+     */
+    public CompletableFuture<Boolean> verifyPasswordAsync(String password, String hashedPassword) {
+        return submit(() -> verifyPassword(password, hashedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new ApiException("Server is busy, please try again later", 503));
+        }
+    }
 }
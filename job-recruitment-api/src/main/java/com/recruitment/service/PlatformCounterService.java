@@ -0,0 +1,189 @@
+package com.recruitment.service;
+
+import com.recruitment.enums.CounterType;
+import com.recruitment.event.CounterChangedEvent;
+import com.recruitment.repository.ApplicationRepository;
+import com.recruitment.repository.CandidateProfileRepository;
+import com.recruitment.repository.EnterpriseProfileRepository;
+import com.recruitment.repository.JobOfferRepository;
+import com.recruitment.repository.PlatformCounterRepository;
+import com.recruitment.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Platform-wide totals for the admin dashboard, read from the platform_counters table.
+ * Insert and delete paths report deltas once their transaction commits; deltas are
+ * summed in memory and flushed every few seconds. A reconciler recounts the tables
+ * (in parallel) at startup when counters are missing, hourly, and on demand.
+ */
+@ApplicationScoped
+public class PlatformCounterService {
+
+    private static final Logger LOGGER = Logger.getLogger(PlatformCounterService.class.getName());
+
+    private static final long FLUSH_INTERVAL_SECONDS = 5;
+    private static final long RECONCILE_INTERVAL_MINUTES = 60;
+
+    @Inject
+    private PlatformCounterRepository platformCounterRepository;
+
+    @Inject
+    private UserRepository userRepository;
+
+    @Inject
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Inject
+    private EnterpriseProfileRepository enterpriseProfileRepository;
+
+    @Inject
+    private JobOfferRepository jobOfferRepository;
+
+    @Inject
+    private ApplicationRepository applicationRepository;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    @Resource
+    private ManagedExecutorService managedExecutor;
+
+    // Committed changes not yet written to the table
+    private final Map<CounterType, AtomicLong> pending = new EnumMap<>(CounterType.class);
+
+    // Serializes flushes and reconciliations so that deltas are never applied on top of a recount
+    private final Object writeLock = new Object();
+
+    private ScheduledFuture<?> flushTask;
+    private ScheduledFuture<?> reconcileTask;
+
+    public PlatformCounterService() {
+        for (CounterType type : CounterType.values()) {
+            pending.put(type, new AtomicLong());
+        }
+    }
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        flushTask = scheduler.scheduleWithFixedDelay(this::flush,
+                FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        reconcileTask = scheduler.scheduleWithFixedDelay(this::reconcileQuietly,
+                RECONCILE_INTERVAL_MINUTES, RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        // First deployment: seed the table instead of waiting for the first hourly pass
+        scheduler.execute(() -> {
+            if (platformCounterRepository.findAll().size() < CounterType.values().length) {
+                reconcileQuietly();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        if (reconcileTask != null) {
+            reconcileTask.cancel(false);
+        }
+        flush();
+    }
+
+    /**
+     * Record a change once the transaction that made it has committed
+     */
+    public void onCounterChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) CounterChangedEvent event) {
+        pending.get(event.getType()).addAndGet(event.getDelta());
+    }
+
+    /**
+     * Current totals: stored values plus changes not flushed yet
+     */
+    public Map<CounterType, Long> getCounts() {
+        Map<CounterType, Long> counts = platformCounterRepository.findAll();
+        for (CounterType type : CounterType.values()) {
+            counts.merge(type, pending.get(type).get(), Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Current total of one counter
+     */
+    public long getCount(CounterType type) {
+        return getCounts().getOrDefault(type, 0L);
+    }
+
+    /**
+     * Recount every table in parallel and overwrite the counters with the exact values
+     */
+    public Map<CounterType, Long> reconcile() {
+        synchronized (writeLock) {
+            // Changes committed while the counts run may be counted twice until the next pass
+            for (AtomicLong delta : pending.values()) {
+                delta.set(0);
+            }
+
+            CompletableFuture<Long> users = countAsync(userRepository::count);
+            CompletableFuture<Long> candidates = countAsync(candidateProfileRepository::count);
+            CompletableFuture<Long> enterprises = countAsync(enterpriseProfileRepository::count);
+            CompletableFuture<Long> jobs = countAsync(jobOfferRepository::count);
+            CompletableFuture<Long> applications = countAsync(applicationRepository::count);
+
+            Map<CounterType, Long> exact = new EnumMap<>(CounterType.class);
+            exact.put(CounterType.USERS, users.join());
+            exact.put(CounterType.CANDIDATES, candidates.join());
+            exact.put(CounterType.ENTERPRISES, enterprises.join());
+            exact.put(CounterType.JOB_OFFERS, jobs.join());
+            exact.put(CounterType.APPLICATIONS, applications.join());
+            platformCounterRepository.setAll(exact);
+            return exact;
+        }
+    }
+
+    private void flush() {
+        synchronized (writeLock) {
+            for (CounterType type : CounterType.values()) {
+                long delta = pending.get(type).getAndSet(0);
+                if (delta == 0) {
+                    continue;
+                }
+                try {
+                    // A missing row is seeded by the reconciler, which counts this change too
+                    platformCounterRepository.increment(type, delta);
+                } catch (RuntimeException e) {
+                    pending.get(type).addAndGet(delta);
+                    LOGGER.log(Level.WARNING, "Could not flush counter " + type, e);
+                }
+            }
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Counter reconciliation failed", e);
+        }
+    }
+
+    private CompletableFuture<Long> countAsync(Supplier<Long> count) {
+        return CompletableFuture.supplyAsync(count, managedExecutor);
+    }
+}
@@ -0,0 +1,83 @@
+package com.recruitment.service;
+
+import com.recruitment.entity.CandidateProfile;
+import com.recruitment.entity.EnterpriseProfile;
+import com.recruitment.exception.ApiException;
+import com.recruitment.repository.CandidateProfileRepository;
+import com.recruitment.repository.EnterpriseProfileRepository;
+import com.recruitment.security.UserPrincipal;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the candidate or enterprise profile id of the authenticated user.
+ * Tokens carry it in the "profileId" claim; tokens issued before that claim existed
+ * are resolved once from the database and remembered.
+ */
+@ApplicationScoped
+public class ProfileIdResolver {
+
+    private static final int MAX_LEGACY_ENTRIES = 10_000;
+
+    @Inject
+    private CandidateProfileRepository candidateProfileRepository;
+
+    @Inject
+    private EnterpriseProfileRepository enterpriseProfileRepository;
+
+    // userId -> profile id, only for tokens without the claim
+    private final Map<String, String> legacy = new ConcurrentHashMap<>();
+
+    /**
+     * Candidate profile id of the principal
+     */
+    public String candidateId(UserPrincipal principal) {
+        if (principal.getProfileId() != null) {
+            return principal.getProfileId();
+        }
+        String cached = legacy.get(principal.getUserId());
+        if (cached != null) {
+            return cached;
+        }
+        String candidateId = candidateProfileRepository.findByUserId(principal.getUserId())
+                .map(CandidateProfile::getId)
+                .orElseThrow(() -> new ApiException("Candidate profile not found", 404));
+        remember(principal.getUserId(), candidateId);
+        return candidateId;
+    }
+
+    /**
+     * Enterprise profile id of the principal
+     */
+    public String enterpriseId(UserPrincipal principal) {
+        if (principal.getProfileId() != null) {
+            return principal.getProfileId();
+        }
+        String cached = legacy.get(principal.getUserId());
+        if (cached != null) {
+            return cached;
+        }
+        String enterpriseId = enterpriseProfileRepository.findByUserId(principal.getUserId())
+                .map(EnterpriseProfile::getId)
+                .orElseThrow(() -> new ApiException("Enterprise profile not found", 404));
+        remember(principal.getUserId(), enterpriseId);
+        return enterpriseId;
+    }
+
+    /**
+     * Forget a user, e.g. when the account is deleted
+     */
+    public void forget(String userId) {
+        legacy.remove(userId);
+    }
+
+    private void remember(String userId, String profileId) {
+        if (legacy.size() >= MAX_LEGACY_ENTRIES) {
+            legacy.clear();
+        }
+        legacy.put(userId, profileId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.recruitment.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets keyed by limit name and client (user id or IP address).
+ * Buckets live in a concurrent map and each one is locked on its own, so clients do
+ * not contend with each other; buckets that have refilled completely are swept.
+ */
+@ApplicationScoped
+public class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> sweepTask;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        sweepTask = scheduler.scheduleWithFixedDelay(this::sweep,
+                SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel(false);
+        }
+    }
+
+    /**
+     * Take one token from the client's bucket.
+     * Returns 0 if the request may proceed, otherwise the number of seconds to wait.
+     */
+    public long tryAcquire(String limit, String client, int burst, double perSecond) {
+        TokenBucket bucket = buckets.computeIfAbsent(limit + '|' + client, key -> new TokenBucket(burst, perSecond));
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    private static final class TokenBucket {
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        private TokenBucket(int capacity, double perSecond) {
+            this.capacity = capacity;
+            this.tokensPerNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            double waitNanos = (1 - tokens) / tokensPerNano;
+            return Math.max(1, (long) Math.ceil(waitNanos / TimeUnit.SECONDS.toNanos(1)));
+        }
+
+        private synchronized boolean isIdle(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
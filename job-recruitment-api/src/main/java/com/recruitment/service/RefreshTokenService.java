@@ -0,0 +1,152 @@
+package com.recruitment.service;
+
+import com.recruitment.dto.response.AuthResponse;
+import com.recruitment.entity.RefreshToken;
+import com.recruitment.entity.User;
+import com.recruitment.exception.ApiException;
+import com.recruitment.repository.RefreshTokenRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Service for refresh tokens.
+ * Access tokens are short-lived and checked statelessly; a refresh token is exchanged
+ * for a new access token and is rotated on every use. Presenting an already used token
+ * revokes its whole family, since the token must have been stolen.
+ */
+@ApplicationScoped
+public class RefreshTokenService {
+
+    private static final Logger LOGGER = Logger.getLogger(RefreshTokenService.class.getName());
+
+    private static final int TOKEN_BYTES = 32;
+    private static final long PURGE_INTERVAL_HOURS = 1;
+
+    @Inject
+    @ConfigProperty(name = "jwt.refresh.expiration", defaultValue = "2592000000")
+    private long expiration; // 30 days in milliseconds
+
+    @Inject
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Inject
+    private JwtTokenService jwtTokenService;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private ScheduledFuture<?> purgeTask;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        purgeTask = scheduler.scheduleWithFixedDelay(this::purgeExpired,
+                PURGE_INTERVAL_HOURS, PURGE_INTERVAL_HOURS, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (purgeTask != null) {
+            purgeTask.cancel(false);
+        }
+    }
+
+    /**
+     * Access and refresh tokens for a freshly authenticated user
+     */
+    public AuthResponse authenticated(User user) {
+        return tokens(user, issue(user, UUID.randomUUID().toString()));
+    }
+
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token
+     */
+    @Transactional(dontRollbackOn = ApiException.class)
+    public AuthResponse refresh(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new ApiException("Invalid refresh token", 401));
+
+        if (current.isRevoked()) {
+            // Reuse of a rotated token: revoke every token of this login
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw new ApiException("Invalid refresh token", 401);
+        }
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new ApiException("Refresh token expired", 401);
+        }
+
+        User user = current.getUser();
+        if (!user.isActive()) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            throw new ApiException("DEACTIVATED:Your account has been deactivated.", 401);
+        }
+
+        current.setRevoked(true);
+        return tokens(user, issue(user, current.getFamilyId()));
+    }
+
+    /**
+     * Revoke every refresh token of a user
+     */
+    public void revokeAll(String userId) {
+        refreshTokenRepository.revokeByUserId(userId);
+    }
+
+    private AuthResponse tokens(User user, String refreshToken) {
+        AuthResponse response = AuthResponse.success(jwtTokenService.generateToken(user),
+                user.getId(), user.getEmail(), user.getRole());
+        response.setRefreshToken(refreshToken);
+        response.setExpiresIn(TimeUnit.MILLISECONDS.toSeconds(jwtTokenService.getExpiration()));
+        return response;
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(user, hash(rawToken), familyId,
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(expiration))));
+        return rawToken;
+    }
+
+    private void purgeExpired() {
+        try {
+            int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (purged > 0) {
+                LOGGER.info("Purged " + purged + " expired refresh tokens");
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Refresh token purge failed", e);
+        }
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
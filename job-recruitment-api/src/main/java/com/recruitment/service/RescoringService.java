@@ -0,0 +1,218 @@
+package com.recruitment.service;
+
+import com.recruitment.event.SkillsChangedEvent;
+import com.recruitment.repository.ApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background re-scoring of applications whose matching score went stale after
+ * a job's requirements or a candidate's skills changed.
+ * Request threads only record the changed id after commit; repeated edits of the
+ * same job or candidate coalesce into a single recomputation.
+ */
+@ApplicationScoped
+public class RescoringService {
+
+    private static final Logger LOGGER = Logger.getLogger(RescoringService.class.getName());
+
+    private static final long DRAIN_INTERVAL_SECONDS = 2;
+
+    // Failed ids are retried after 4, 8, 16 and 32 seconds, then dropped
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Inject
+    private ApplicationRepository applicationRepository;
+
+    @Inject
+    private MatchingService matchingService;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private final Set<String> pendingJobs = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingCandidates = ConcurrentHashMap.newKeySet();
+    private final Map<String, Retry> jobRetries = new ConcurrentHashMap<>();
+    private final Map<String, Retry> candidateRetries = new ConcurrentHashMap<>();
+
+    // Progress counters
+    private final AtomicLong jobsRescored = new AtomicLong();
+    private final AtomicLong candidatesRescored = new AtomicLong();
+    private final AtomicLong applicationsScanned = new AtomicLong();
+    private final AtomicLong applicationsUpdated = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile String lastRunAt;
+    private volatile long lastRunMillis;
+
+    private ScheduledFuture<?> drainTask;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        drainTask = scheduler.scheduleWithFixedDelay(this::drain,
+                DRAIN_INTERVAL_SECONDS, DRAIN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (drainTask != null) {
+            drainTask.cancel(false);
+        }
+    }
+
+    /**
+     * Queue a job or candidate once the transaction that changed it has committed.
+     * A new change starts its retries over.
+     */
+    public void onSkillsChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) SkillsChangedEvent event) {
+        if (event.getKind() == SkillsChangedEvent.Kind.JOB) {
+            jobRetries.remove(event.getId());
+            pendingJobs.add(event.getId());
+        } else {
+            candidateRetries.remove(event.getId());
+            pendingCandidates.add(event.getId());
+        }
+    }
+
+    /**
+     * Current queue sizes and totals since deployment
+     */
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("pendingJobs", pendingJobs.size());
+        progress.put("pendingCandidates", pendingCandidates.size());
+        progress.put("jobsRescored", jobsRescored.get());
+        progress.put("candidatesRescored", candidatesRescored.get());
+        progress.put("applicationsScanned", applicationsScanned.get());
+        progress.put("applicationsUpdated", applicationsUpdated.get());
+        progress.put("failures", failures.get());
+        progress.put("dropped", dropped.get());
+        progress.put("lastRunAt", lastRunAt);
+        progress.put("lastRunMillis", lastRunMillis);
+        return progress;
+    }
+
+    private void drain() {
+        if (pendingJobs.isEmpty() && pendingCandidates.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<String> failedJobs = new ArrayList<>();
+        List<String> failedCandidates = new ArrayList<>();
+
+        for (Iterator<String> it = pendingJobs.iterator(); it.hasNext();) {
+            String jobId = it.next();
+            if (backingOff(jobRetries, jobId, start)) {
+                continue;
+            }
+            it.remove();
+            if (rescore(() -> applicationRepository.findScoringRowsByJobId(jobId), "job " + jobId)) {
+                jobRetries.remove(jobId);
+                jobsRescored.incrementAndGet();
+            } else if (retryLater(jobRetries, jobId, "job")) {
+                failedJobs.add(jobId);
+            }
+        }
+        for (Iterator<String> it = pendingCandidates.iterator(); it.hasNext();) {
+            String candidateId = it.next();
+            if (backingOff(candidateRetries, candidateId, start)) {
+                continue;
+            }
+            it.remove();
+            if (rescore(() -> applicationRepository.findScoringRowsByCandidateId(candidateId), "candidate " + candidateId)) {
+                candidateRetries.remove(candidateId);
+                candidatesRescored.incrementAndGet();
+            } else if (retryLater(candidateRetries, candidateId, "candidate")) {
+                failedCandidates.add(candidateId);
+            }
+        }
+
+        // Retried on the next run rather than in this one
+        pendingJobs.addAll(failedJobs);
+        pendingCandidates.addAll(failedCandidates);
+
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastRunAt = Instant.now().toString();
+    }
+
+    private static boolean backingOff(Map<String, Retry> retries, String id, long now) {
+        Retry retry = retries.get(id);
+        return retry != null && retry.notBefore - now > 0;
+    }
+
+    /**
+     * Record a failed attempt and schedule the next one, or drop the id once
+     * MAX_ATTEMPTS have failed (a deterministic failure would otherwise be retried forever)
+     */
+    private boolean retryLater(Map<String, Retry> retries, String id, String kind) {
+        Retry previous = retries.get(id);
+        int attempts = previous != null ? previous.attempts + 1 : 1;
+        if (attempts >= MAX_ATTEMPTS) {
+            retries.remove(id);
+            dropped.incrementAndGet();
+            LOGGER.warning("Giving up rescoring " + kind + " " + id + " after " + attempts + " failed attempts");
+            return false;
+        }
+        long delay = TimeUnit.SECONDS.toNanos(DRAIN_INTERVAL_SECONDS << attempts);
+        retries.put(id, new Retry(attempts, System.nanoTime() + delay));
+        return true;
+    }
+
+    /**
+     * Recompute scores of (application id, score, skills, requirements) rows and write the changed ones
+     */
+    private boolean rescore(Supplier<List<Object[]>> loader, String sourceId) {
+        try {
+            List<Object[]> rows = loader.get();
+            Map<String, Double> changed = new HashMap<>();
+            for (Object[] row : rows) {
+                double current = (Double) row[1];
+                double score = matchingService.score(
+                        matchingService.vectorize((String) row[2]),
+                        matchingService.vectorize((String) row[3]));
+                if (score != current) {
+                    changed.put((String) row[0], score);
+                }
+            }
+            applicationRepository.updateMatchingScores(changed);
+            applicationsScanned.addAndGet(rows.size());
+            applicationsUpdated.addAndGet(changed.size());
+            return true;
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            LOGGER.log(Level.WARNING, "Rescoring failed for " + sourceId, e);
+            return false;
+        }
+    }
+
+    private static final class Retry {
+        private final int attempts;
+        private final long notBefore;
+
+        private Retry(int attempts, long notBefore) {
+            this.attempts = attempts;
+            this.notBefore = notBefore;
+        }
+    }
+}
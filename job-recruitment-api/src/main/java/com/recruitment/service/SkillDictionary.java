@@ -0,0 +1,100 @@
+package com.recruitment.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Global dictionary interning normalized skill strings to dense int ids.
+ * For every id it also keeps the set of ids it "matches" under the partial matching
+ * rule of the scoring (one string contains the other), so that matching a requirement
+ * against a candidate becomes a single bitset intersection.
+ *
+ * Skills are free text, so the dictionary is bounded: once it is full, or for overlong
+ * strings, intern() returns NOT_INTERNED and callers fall back to comparing strings.
+ */
+@ApplicationScoped
+public class SkillDictionary {
+
+    public static final int NOT_INTERNED = -1;
+
+    static final int MAX_TERMS = 10_000;
+    static final int MAX_TERM_LENGTH = 50;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    // Fixed capacity, so publishing a term never copies the tables; guarded by "this" for writes
+    private final AtomicReferenceArray<String> terms = new AtomicReferenceArray<>(MAX_TERMS);
+
+    // related[id] = ids matching term id; entries are replaced, never mutated
+    private final AtomicReferenceArray<BitSet> related = new AtomicReferenceArray<>(MAX_TERMS);
+
+    private volatile int size;
+
+    /**
+     * Get the id of a normalized skill, assigning a new one if there is room
+     */
+    public int intern(String normalized) {
+        Integer id = ids.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        if (size >= MAX_TERMS || normalized.length() > MAX_TERM_LENGTH) {
+            return NOT_INTERNED;
+        }
+        return internSlow(normalized);
+    }
+
+    private synchronized int internSlow(String normalized) {
+        Integer existing = ids.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+        int id = size;
+        if (id >= MAX_TERMS) {
+            return NOT_INTERNED;
+        }
+
+        BitSet closure = new BitSet();
+        closure.set(id);
+        for (int other = 0; other < id; other++) {
+            String term = terms.get(other);
+            if (term.contains(normalized) || normalized.contains(term)) {
+                closure.set(other);
+                BitSet widened = (BitSet) related.get(other).clone();
+                widened.set(id);
+                related.set(other, widened);
+            }
+        }
+
+        terms.set(id, normalized);
+        related.set(id, closure);
+        size = id + 1;
+        ids.put(normalized, id);
+        return id;
+    }
+
+    /**
+     * Ids of all skills matching the given skill id (including itself)
+     */
+    public BitSet related(int id) {
+        return related.get(id);
+    }
+
+    /**
+     * Normalized skill of an id
+     */
+    public String term(int id) {
+        return terms.get(id);
+    }
+
+    /**
+     * Number of distinct skills interned so far
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,52 @@
+package com.recruitment.service;
+
+import java.util.BitSet;
+
+/**
+ * Compact, immutable form of a skill list: sorted dictionary ids (duplicates kept,
+ * as each requirement counts once in the score) plus the same ids as a bitset, and
+ * the normalized skills the dictionary had no room for.
+ */
+public final class SkillVector {
+
+    public static final SkillVector EMPTY = new SkillVector(new int[0]);
+
+    private static final String[] NONE = new String[0];
+
+    private final int[] ids;
+    private final BitSet bits;
+    private final String[] unknown;
+
+    public SkillVector(int[] sortedIds) {
+        this(sortedIds, NONE);
+    }
+
+    public SkillVector(int[] sortedIds, String[] unknown) {
+        this.ids = sortedIds;
+        this.unknown = unknown;
+        this.bits = new BitSet();
+        for (int id : sortedIds) {
+            bits.set(id);
+        }
+    }
+
+    public int size() {
+        return ids.length + unknown.length;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int[] ids() {
+        return ids;
+    }
+
+    BitSet bits() {
+        return bits;
+    }
+
+    String[] unknown() {
+        return unknown;
+    }
+}
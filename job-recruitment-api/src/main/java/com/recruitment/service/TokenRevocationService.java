@@ -0,0 +1,121 @@
+package com.recruitment.service;
+
+import com.recruitment.event.UserRevokedEvent;
+import com.recruitment.repository.UserRepository;
+import com.recruitment.security.UserPrincipal;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * Tokens of deactivated or deleted users: every token of a user issued before the
+ * revocation time is rejected.
+ * A Bloom filter answers "never revoked" for almost every user without touching the
+ * exact map; only possible hits consult the map of user id to revocation time.
+ * The set is rebuilt at deployment from the inactive users; deletions are only kept in
+ * memory, since a deleted user's token no longer resolves to any data.
+ */
+@ApplicationScoped
+public class TokenRevocationService {
+
+    private static final Logger LOGGER = Logger.getLogger(TokenRevocationService.class.getName());
+
+    // 2^20 bits (128 KB) and 3 probes: under 1% false positives up to ~100k revoked users
+    private static final int BLOOM_BITS = 1 << 20;
+    private static final int BLOOM_PROBES = 3;
+
+    @Inject
+    private UserRepository userRepository;
+
+    private final AtomicLongArray bloom = new AtomicLongArray(BLOOM_BITS / 64);
+
+    // userId -> tokens issued strictly before this instant (epoch millis) are revoked
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        List<Object[]> rows = userRepository.findInactiveUsers();
+        for (Object[] row : rows) {
+            LocalDateTime deactivatedAt = (LocalDateTime) row[1];
+            revoke((String) row[0], deactivatedAt != null
+                    ? deactivatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : System.currentTimeMillis());
+        }
+        LOGGER.info("Token revocation set built with " + rows.size() + " inactive users");
+    }
+
+    /**
+     * Revoke every token of the user issued up to now
+     */
+    public void revoke(String userId) {
+        revoke(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * Revoke the user's tokens once their deactivation or deletion is committed
+     */
+    public void onUserRevoked(@Observes(during = TransactionPhase.AFTER_SUCCESS) UserRevokedEvent event) {
+        revoke(event.getUserId());
+    }
+
+    /**
+     * Whether the principal's token was issued before its user was revoked
+     */
+    public boolean isRevoked(UserPrincipal principal) {
+        String userId = principal.getUserId();
+        if (!mightContain(userId)) {
+            return false;
+        }
+        Long before = revokedBefore.get(userId);
+        return before != null && principal.getIssuedAt() < before;
+    }
+
+    /**
+     * Number of users with revoked tokens
+     */
+    public int size() {
+        return revokedBefore.size();
+    }
+
+    private void revoke(String userId, long at) {
+        revokedBefore.merge(userId, at, Math::max);
+        int hash = userId.hashCode();
+        int step = mix(hash);
+        for (int i = 0; i < BLOOM_PROBES; i++) {
+            int bit = (hash + i * step) & (BLOOM_BITS - 1);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bloom.get(word);
+            } while ((current & mask) == 0 && !bloom.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean mightContain(String userId) {
+        int hash = userId.hashCode();
+        int step = mix(hash);
+        for (int i = 0; i < BLOOM_PROBES; i++) {
+            int bit = (hash + i * step) & (BLOOM_BITS - 1);
+            if ((bloom.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Second, independent hash for double hashing; forced odd so probes never repeat
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) | 1;
+    }
+}
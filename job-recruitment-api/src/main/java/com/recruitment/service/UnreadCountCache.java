@@ -0,0 +1,81 @@
+package com.recruitment.service;
+
+import com.recruitment.repository.NotificationRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of unread notification counts per user.
+ * Counts are loaded from the database on a miss and then kept up to date by the
+ * code paths that insert or mark notifications, so reads stay in memory.
+ */
+@ApplicationScoped
+public class UnreadCountCache {
+
+    private static final int MAX_ENTRIES = 50_000;
+
+    @Inject
+    private NotificationRepository notificationRepository;
+
+    // Access-ordered map evicting the least recently used user; guarded by "this"
+    private final LinkedHashMap<String, Long> counts = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    // Users whose count is being loaded; a write in the meantime discards the loaded value
+    private final Map<String, Object> loading = new HashMap<>();
+
+    /**
+     * Unread count of a user, from memory when cached
+     */
+    public long get(String userId) {
+        Object token = new Object();
+        synchronized (this) {
+            Long cached = counts.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loading.put(userId, token);
+        }
+
+        long count = notificationRepository.countUnreadByUserId(userId);
+
+        synchronized (this) {
+            if (loading.remove(userId, token)) {
+                counts.put(userId, count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Apply a change to a user's unread count; uncached users are left to the next load
+     */
+    public synchronized void adjust(String userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        loading.remove(userId);
+        Long cached = counts.get(userId);
+        if (cached != null) {
+            counts.put(userId, Math.max(0, cached + delta));
+        }
+    }
+
+    /**
+     * Record that all notifications of a user were read.
+     * The entry is dropped rather than set to 0: a notification inserted concurrently may
+     * or may not have been marked, and the next read reloads the exact value.
+     */
+    public synchronized void invalidate(String userId) {
+        loading.remove(userId);
+        counts.remove(userId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.recruitment.service;
+
+import java.util.Set;
+
+/**
+ * Kinds of uploaded files, with their directory and accepted content types
+ */
+public enum UploadCategory {
+
+    PHOTO("photos", Set.of(FileType.JPEG, FileType.PNG, FileType.GIF, FileType.WEBP)),
+    CV("cvs", Set.of(FileType.PDF, FileType.DOC, FileType.DOCX)),
+    LOGO("logos", Set.of(FileType.JPEG, FileType.PNG, FileType.GIF, FileType.WEBP));
+
+    private final String directory;
+    private final Set<FileType> allowedTypes;
+
+    UploadCategory(String directory, Set<FileType> allowedTypes) {
+        this.directory = directory;
+        this.allowedTypes = allowedTypes;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public boolean accepts(FileType type) {
+        return allowedTypes.contains(type);
+    }
+
+    /**
+     * Category stored in the given directory, or null
+     */
+    public static UploadCategory fromDirectory(String directory) {
+        for (UploadCategory category : values()) {
+            if (category.directory.equals(directory)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -1,7 +1,11 @@
 package com.recruitment.service;
 
+import com.recruitment.dto.request.AdminListQuery;
 import com.recruitment.dto.request.ProfileUpdateRequest;
+import com.recruitment.dto.request.RegisterRequest;
 import com.recruitment.dto.request.UserStatusRequest;
+import com.recruitment.dto.response.AdminPageResponse;
+import com.recruitment.dto.response.AuthResponse;
 import com.recruitment.dto.response.DashboardStatsResponse;
 import com.recruitment.dto.response.ApplicationResponse;
 import com.recruitment.dto.response.InterviewResponse;
@@ -9,15 +13,27 @@ import com.recruitment.dto.response.UserResponse;
 import com.recruitment.entity.CandidateProfile;
 import com.recruitment.entity.EnterpriseProfile;
 import com.recruitment.entity.User;
+import com.recruitment.entity.JobOffer;
 import com.recruitment.enums.ApplicationStatus;
+import com.recruitment.enums.CounterType;
 import com.recruitment.enums.JobStatus;
+import com.recruitment.enums.Role;
+import com.recruitment.event.CandidateSkillsEvent;
+import com.recruitment.event.CounterChangedEvent;
+import com.recruitment.event.ImageChangedEvent;
+import com.recruitment.event.JobChangedEvent;
+import com.recruitment.event.SkillsChangedEvent;
+import com.recruitment.event.UserRevokedEvent;
 import com.recruitment.exception.ApiException;
 import com.recruitment.repository.*;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -44,26 +60,44 @@ public class UserService {
     @Inject
     private InterviewRepository interviewRepository;
 
-    /**
-     * Get total user count
-     */
-    public long getUserCount() {
-        return userRepository.count();
-    }
+    @Inject
+    private ProfileIdResolver profileIdResolver;
 
-    /**
-     * Get candidate count
-     */
-    public long getCandidateCount() {
-        return candidateProfileRepository.count();
-    }
+    @Inject
+    private RefreshTokenService refreshTokenService;
 
-    /**
-     * Get enterprise count
-     */
-    public long getEnterpriseCount() {
-        return enterpriseProfileRepository.count();
-    }
+    @Inject
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Inject
+    private FileBlobRepository fileBlobRepository;
+
+    @Inject
+    private FileStorageService fileStorageService;
+
+    @Inject
+    private Event<SkillsChangedEvent> skillsChangedEvent;
+
+    @Inject
+    private Event<ImageChangedEvent> imageChangedEvent;
+
+    @Inject
+    private Event<CounterChangedEvent> counterChangedEvent;
+
+    @Inject
+    private Event<JobChangedEvent> jobChangedEvent;
+
+    @Inject
+    private Event<CandidateSkillsEvent> candidateSkillsEvent;
+
+    @Inject
+    private Event<UserRevokedEvent> userRevokedEvent;
+
+    @Inject
+    private DashboardCache dashboardCache;
+
+    @Inject
+    private PlatformCounterService platformCounterService;
 
     /**
      * Get recent user registrations
@@ -76,13 +110,37 @@ public class UserService {
     }
 
     /**
-     * Get all users (admin)
+     * Get a page of users (admin); status is "active" or "inactive"
      */
     @Transactional
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAllWithProfiles().stream()
-                .map(UserResponse::fromEntity)
-                .collect(Collectors.toList());
+    public AdminPageResponse<UserResponse> getUsersPage(AdminListQuery query) {
+        Role role = AdminListQuery.parseEnum(Role.class, query.getRole(), "role");
+        Boolean active = parseActiveFilter(query.getStatus());
+        SortKey<User> sort = AdminPages.sortKey(UserRepository.ADMIN_SORTS, query.getSort(),
+                UserRepository.SORT_CREATED_AT);
+        LocalDateTime from = query.getFromTime();
+        LocalDateTime to = query.getToTime();
+        String email = query.getEmailPrefix();
+
+        return AdminPages.page(query, sort, User::getId,
+                (afterValue, afterId, limit) -> userRepository.findAdminPage(role, active, from, to, email,
+                        sort, query.isAscending(), afterValue, afterId, limit),
+                UserResponse::fromEntity,
+                () -> userRepository.countAdmin(role, active, from, to, email, AdminPages.TOTAL_CAP),
+                () -> platformCounterService.getCount(CounterType.USERS));
+    }
+
+    private Boolean parseActiveFilter(String status) {
+        if (status == null || status.isBlank() || status.equalsIgnoreCase("all")) {
+            return null;
+        }
+        if (status.equalsIgnoreCase("active")) {
+            return true;
+        }
+        if (status.equalsIgnoreCase("inactive")) {
+            return false;
+        }
+        throw new ApiException("Invalid status: " + status, 400);
     }
 
     /**
@@ -164,6 +222,53 @@ public class UserService {
         return result;
     }
 
+    /**
+     * Create a registered user, its profile and its first refresh token
+     */
+    @Transactional
+    public AuthResponse register(RegisterRequest request, String hashedPassword) {
+        // Create user
+        User user = new User();
+        user.setEmail(request.getEmail());
+        user.setPassword(hashedPassword);
+        user.setRole(request.getRole());
+
+        // Create profile based on role
+        if (request.getRole() == Role.CANDIDATE) {
+            CandidateProfile profile = new CandidateProfile();
+            profile.setFirstName(request.getFirstName());
+            profile.setLastName(request.getLastName());
+            profile.setSkills(request.getSkills() != null ? request.getSkills() : "[]");
+            profile.setBio(request.getBio());
+            profile.setPhone(request.getPhone());
+            profile.setAddress(request.getAddress());
+            user.setCandidateProfile(profile);
+        } else if (request.getRole() == Role.ENTERPRISE) {
+            EnterpriseProfile profile = new EnterpriseProfile();
+            profile.setCompanyName(request.getCompanyName() != null ? request.getCompanyName() : "Company Name");
+            profile.setDescription(request.getDescription());
+            profile.setIndustry(request.getIndustry());
+            profile.setLocation(request.getLocation());
+            user.setEnterpriseProfile(profile);
+        }
+
+        // Save user
+        user = userRepository.save(user);
+        if (user.getCandidateProfile() != null) {
+            candidateSkillsEvent.fire(CandidateSkillsEvent.saved(
+                    user.getCandidateProfile().getId(), user.getCandidateProfile().getSkills()));
+        }
+        counterChangedEvent.fire(new CounterChangedEvent(CounterType.USERS, 1));
+        if (user.getRole() == Role.CANDIDATE) {
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.CANDIDATES, 1));
+        } else if (user.getRole() == Role.ENTERPRISE) {
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.ENTERPRISES, 1));
+        }
+
+        // Generate access and refresh tokens
+        return refreshTokenService.authenticated(user);
+    }
+
     /**
      * Update user status (activate/deactivate)
      */
@@ -180,6 +285,14 @@ public class UserService {
         }
 
         userRepository.save(user);
+        CandidateProfile candidate = user.getCandidateProfile();
+        if (!request.isActive()) {
+            refreshTokenService.revokeAll(user.getId());
+            userRevokedEvent.fire(new UserRevokedEvent(user.getId(), candidate != null ? candidate.getId() : null));
+        } else if (candidate != null) {
+            // Back in the candidate rankings
+            candidateSkillsEvent.fire(CandidateSkillsEvent.saved(candidate.getId(), candidate.getSkills()));
+        }
     }
 
     /**
@@ -189,7 +302,39 @@ public class UserService {
     public void deleteUser(String userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException("User not found", 404));
+
+        counterChangedEvent.fire(new CounterChangedEvent(CounterType.USERS, -1));
+
+        // Applications are removed with the candidate profile
+        if (user.getCandidateProfile() != null) {
+            String candidateId = user.getCandidateProfile().getId();
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.CANDIDATES, -1));
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.APPLICATIONS,
+                    -applicationRepository.countByCandidateId(candidateId)));
+            jobOfferRepository.decrementApplicationCountsForCandidate(candidateId);
+            candidateSkillsEvent.fire(CandidateSkillsEvent.deleted(candidateId));
+        }
+
+        // Job offers, and the applications to them, are removed with the enterprise profile
+        if (user.getEnterpriseProfile() != null) {
+            List<JobOffer> jobs = jobOfferRepository.findByEnterpriseId(user.getEnterpriseProfile().getId());
+            long applications = 0;
+            for (JobOffer job : jobs) {
+                applications += job.getApplicationCount();
+                jobChangedEvent.fire(JobChangedEvent.deleted(job.getId()));
+            }
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.ENTERPRISES, -1));
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.JOB_OFFERS, -jobs.size()));
+            counterChangedEvent.fire(new CounterChangedEvent(CounterType.APPLICATIONS, -applications));
+        }
+
+        refreshTokenRepository.deleteByUserId(userId);
+        // Uploaded files are released; blobs nobody else uses are collected later
+        fileBlobRepository.detachAll(userId);
         userRepository.delete(user);
+        profileIdResolver.forget(userId);
+        // The candidate profile already leaves the index through its CandidateSkillsEvent
+        userRevokedEvent.fire(new UserRevokedEvent(userId, null));
     }
 
     /**
@@ -200,15 +345,21 @@ public class UserService {
         User user = userRepository.findByIdWithProfiles(userId)
                 .orElseThrow(() -> new ApiException("User not found", 404));
 
-        // Update photo URL if provided
-        if (request.getPhotoUrl() != null) {
+        // Update photo URL if provided; its variants are regenerated in the background
+        if (request.getPhotoUrl() != null && !request.getPhotoUrl().equals(user.getPhotoUrl())) {
+            holdFiles(userId, UploadCategory.PHOTO, request.getPhotoUrl());
             user.setPhotoUrl(request.getPhotoUrl());
+            user.setPhotoSmallUrl(null);
+            user.setPhotoMediumUrl(null);
             userRepository.save(user);
+            imageChangedEvent.fire(new ImageChangedEvent(userId, UploadCategory.PHOTO, request.getPhotoUrl()));
         }
 
         // Update candidate profile
         if (user.getCandidateProfile() != null) {
             CandidateProfile profile = user.getCandidateProfile();
+            boolean skillsChanged = request.getSkills() != null
+                    && !request.getSkills().equals(profile.getSkills());
             if (request.getFirstName() != null)
                 profile.setFirstName(request.getFirstName());
             if (request.getLastName() != null)
@@ -221,9 +372,16 @@ public class UserService {
                 profile.setPhone(request.getPhone());
             if (request.getAddress() != null)
                 profile.setAddress(request.getAddress());
-            if (request.getCvUrl() != null)
+            if (request.getCvUrl() != null && !request.getCvUrl().equals(profile.getCvUrl())) {
+                holdFile(userId, UploadCategory.CV.name(), request.getCvUrl());
                 profile.setCvUrl(request.getCvUrl());
+            }
             candidateProfileRepository.save(profile);
+            // Deactivated candidates stay out of the rankings until reactivated
+            if (skillsChanged && user.isActive()) {
+                candidateSkillsEvent.fire(CandidateSkillsEvent.saved(profile.getId(), profile.getSkills()));
+                skillsChangedEvent.fire(SkillsChangedEvent.forCandidate(profile.getId()));
+            }
         }
 
         // Update enterprise profile
@@ -237,60 +395,102 @@ public class UserService {
                 profile.setIndustry(request.getIndustry());
             if (request.getLocation() != null)
                 profile.setLocation(request.getLocation());
-            if (request.getLogoUrl() != null)
+            boolean logoChanged = request.getLogoUrl() != null
+                    && !request.getLogoUrl().equals(profile.getLogoUrl());
+            if (logoChanged) {
+                holdFiles(userId, UploadCategory.LOGO, request.getLogoUrl());
                 profile.setLogoUrl(request.getLogoUrl());
+                profile.setLogoSmallUrl(null);
+                profile.setLogoMediumUrl(null);
+            }
             enterpriseProfileRepository.save(profile);
+            if (logoChanged) {
+                imageChangedEvent.fire(new ImageChangedEvent(userId, UploadCategory.LOGO, profile.getLogoUrl()));
+            }
+        }
+    }
+
+    /**
+     * Store generated photo or logo variants, unless the image was replaced meanwhile
+     */
+    @Transactional
+    public void saveImageVariants(String userId, UploadCategory category, String sourceUrl,
+            String smallUrl, String mediumUrl) {
+        boolean updated = category == UploadCategory.LOGO
+                ? enterpriseProfileRepository.updateLogoVariants(userId, sourceUrl, smallUrl, mediumUrl)
+                : userRepository.updatePhotoVariants(userId, sourceUrl, smallUrl, mediumUrl);
+        if (updated) {
+            holdFile(userId, referenceName(category, ImageVariant.SMALL), smallUrl);
+            holdFile(userId, referenceName(category, ImageVariant.MEDIUM), mediumUrl);
         }
     }
 
+    /**
+     * Reference the blob of a new photo or logo and release its previous variants
+     */
+    private void holdFiles(String userId, UploadCategory category, String url) {
+        holdFile(userId, category.name(), url);
+        for (ImageVariant variant : ImageVariant.values()) {
+            holdFile(userId, referenceName(category, variant), null);
+        }
+    }
+
+    /**
+     * Point a user's file reference to the blob behind a URL, so that the blob outlives the
+     * upload grace period for as long as the profile field holds it. Other URLs hold nothing.
+     */
+    private void holdFile(String userId, String reference, String url) {
+        if (!fileBlobRepository.setReference(userId, reference, fileStorageService.hashOf(url))) {
+            throw new ApiException("File not found: " + url, 400);
+        }
+    }
+
+    private String referenceName(UploadCategory category, ImageVariant variant) {
+        return category.name() + "_" + variant.name();
+    }
+
     /**
      * Get candidate dashboard stats
      */
-    public DashboardStatsResponse getCandidateDashboardStats(String userId) {
-        CandidateProfile candidate = candidateProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ApiException("Candidate profile not found", 404));
-
-        long totalApplications = applicationRepository.countByCandidateId(candidate.getId());
-        long pendingApplications = applicationRepository.countByCandidateIdAndStatus(
-                candidate.getId(), ApplicationStatus.PENDING);
-        long interviews = applicationRepository.countByCandidateIdAndStatus(
-                candidate.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
-        long acceptedApplications = applicationRepository.countByCandidateIdAndStatus(
-                candidate.getId(), ApplicationStatus.ACCEPTED);
+    public DashboardStatsResponse getCandidateDashboardStats(String candidateId) {
+        return dashboardCache.getCandidate(candidateId, () -> loadCandidateDashboardStats(candidateId));
+    }
+
+    /**
+     * Get enterprise dashboard stats
+     */
+    public DashboardStatsResponse getEnterpriseDashboardStats(String enterpriseId) {
+        return dashboardCache.getEnterprise(enterpriseId, () -> loadEnterpriseDashboardStats(enterpriseId));
+    }
+
+    private DashboardStatsResponse loadCandidateDashboardStats(String candidateId) {
+        Map<ApplicationStatus, Long> counts = applicationRepository.countByCandidateIdGroupedByStatus(candidateId);
+        long totalApplications = counts.values().stream().mapToLong(Long::longValue).sum();
 
         List<InterviewResponse> upcomingInterviews = interviewRepository
-                .findUpcomingByCandidateId(candidate.getId(), 5).stream()
+                .findUpcomingByCandidateId(candidateId, 5).stream()
                 .map(InterviewResponse::fromEntity)
                 .collect(Collectors.toList());
 
         return DashboardStatsResponse.forCandidate(
-                totalApplications, pendingApplications, interviews,
-                acceptedApplications, upcomingInterviews);
+                totalApplications, counts.get(ApplicationStatus.PENDING),
+                counts.get(ApplicationStatus.INTERVIEW_SCHEDULED),
+                counts.get(ApplicationStatus.ACCEPTED), upcomingInterviews);
     }
 
-    /**
-     * Get enterprise dashboard stats
-     */
-    public DashboardStatsResponse getEnterpriseDashboardStats(String userId) {
-        EnterpriseProfile enterprise = enterpriseProfileRepository.findByUserId(userId)
-                .orElseThrow(() -> new ApiException("Enterprise profile not found", 404));
-
+    private DashboardStatsResponse loadEnterpriseDashboardStats(String enterpriseId) {
         long activeJobs = jobOfferRepository.countByEnterpriseIdAndStatus(
-                enterprise.getId(), JobStatus.ACTIVE);
-        long totalApplications = applicationRepository.countByEnterpriseId(enterprise.getId());
-        long pendingApplications = applicationRepository.countByEnterpriseIdAndStatus(
-                enterprise.getId(), ApplicationStatus.PENDING);
-        long scheduledInterviews = applicationRepository.countByEnterpriseIdAndStatus(
-                enterprise.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
+                enterpriseId, JobStatus.ACTIVE);
+        Map<ApplicationStatus, Long> counts = applicationRepository.countByEnterpriseIdGroupedByStatus(enterpriseId);
+        long totalApplications = counts.values().stream().mapToLong(Long::longValue).sum();
 
         List<ApplicationResponse> recentApplications = applicationRepository
-                .findByEnterpriseId(enterprise.getId()).stream()
-                .limit(5)
-                .map(app -> ApplicationResponse.fromEntity(app, true))
+                .listRecentByEnterpriseId(enterpriseId, 5).stream()
+                .map(ApplicationResponse::hideAnonymousCandidate)
                 .collect(Collectors.toList());
 
         return DashboardStatsResponse.forEnterprise(
-                activeJobs, totalApplications, pendingApplications,
-                scheduledInterviews, recentApplications);
+                activeJobs, totalApplications, counts.get(ApplicationStatus.PENDING),
+                counts.get(ApplicationStatus.INTERVIEW_SCHEDULED), recentApplications);
     }
 }